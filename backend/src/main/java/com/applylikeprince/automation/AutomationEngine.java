@@ -0,0 +1,8 @@
+package com.applylikeprince.automation;
+
+public interface AutomationEngine {
+
+    EngineType type();
+
+    String run(SubmissionContext context, PlatformHandler handler, PhaseTimings timings);
+}
@@ -0,0 +1,35 @@
+package com.applylikeprince.automation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Engine-neutral view of a page that platform handlers drive
+public interface AutomationSession {
+
+    EngineType engine();
+
+    void open(String url);
+
+    String currentUrl();
+
+    String pageSource();
+
+    boolean exists(String selector);
+
+    void waitFor(String selector, Duration timeout);
+
+    void fill(String selector, String value);
+
+    void upload(String selector, Path file);
+
+    void click(String selector);
+
+    // Cookies and local storage, persisted so later runs can skip the login step
+    SessionState exportState();
+
+    // Restores a saved state for the given site before the handler navigates anywhere
+    void importState(String origin, SessionState state);
+
+    // Lightweight engines give up here so the run is retried in a full browser
+    void requireFullBrowser(String reason);
+}
@@ -0,0 +1,134 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Enforces an overall deadline per submission: interrupts the worker and kills its browser when it overruns
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AutomationWatchdog {
+
+    private final AutomationProperties properties;
+    private final WebDriverPool webDriverPool;
+    private final MeterRegistry meterRegistry;
+
+    // Keyed by worker thread: application ids are null for load-test submissions
+    private final Map<Thread, Watch> watches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("automation.watchdog.active", watches, Map::size).register(meterRegistry);
+    }
+
+    public Watch watch(SubmissionContext context) {
+        Duration deadline = deadlineFor(context.platformName());
+        Watch watch = new Watch(context.applicationId(), context.platformName(), Thread.currentThread(),
+                deadline, Instant.now().plus(deadline));
+        watches.put(watch.worker, watch);
+        return watch;
+    }
+
+    // Lets a timed-out submission take its browser down with it; called on the watched worker thread
+    public void attach(PooledDriver pooled) {
+        Watch watch = watches.get(Thread.currentThread());
+        if (watch != null) {
+            watch.attach(pooled);
+        }
+    }
+
+    // Called before the browser goes back to the pool, so a late sweep cannot kill another worker's borrow
+    public void detach() {
+        Watch watch = watches.get(Thread.currentThread());
+        if (watch != null) {
+            watch.attach(null);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.automation.watchdog.interval:PT10S}")
+    public void sweep() {
+        Instant now = Instant.now();
+        for (Watch watch : watches.values()) {
+            if (now.isAfter(watch.expiresAt) && watch.fire()) {
+                log.warn("Application {} exceeded its {} deadline on {}, interrupting worker {}",
+                        watch.applicationId, watch.deadline, watch.platformName, watch.worker.getName());
+                meterRegistry.counter("automation.watchdog.timeouts", "platform", watch.platformName).increment();
+                watch.killDriver();
+            }
+        }
+    }
+
+    private Duration deadlineFor(String platformName) {
+        AutomationProperties.Watchdog watchdog = properties.getWatchdog();
+        return watchdog.getPlatforms().getOrDefault(platformName.toLowerCase(), watchdog.getDeadline());
+    }
+
+    public final class Watch implements AutoCloseable {
+        private final Long applicationId;
+        private final String platformName;
+        private final Thread worker;
+        private final Duration deadline;
+        private final Instant expiresAt;
+        private PooledDriver driver;
+        private boolean fired;
+        private boolean closed;
+
+        private Watch(Long applicationId, String platformName, Thread worker, Duration deadline, Instant expiresAt) {
+            this.applicationId = applicationId;
+            this.platformName = platformName;
+            this.worker = worker;
+            this.deadline = deadline;
+            this.expiresAt = expiresAt;
+        }
+
+        public synchronized boolean expired() {
+            return fired;
+        }
+
+        public TransientAutomationException timeout(Throwable cause) {
+            return new TransientAutomationException(
+                    "Submission exceeded the " + deadline + " deadline on " + platformName, cause);
+        }
+
+        private synchronized void attach(PooledDriver pooled) {
+            driver = pooled;
+        }
+
+        // Under the lock so the worker cannot detach and release the browser while it is being killed
+        private synchronized void killDriver() {
+            if (driver != null) {
+                webDriverPool.kill(driver);
+            }
+        }
+
+        private synchronized boolean fire() {
+            if (fired || closed) {
+                return false;
+            }
+            fired = true;
+            worker.interrupt();
+            return true;
+        }
+
+        // Runs on the worker; clears our interrupt so the failure can still be persisted
+        @Override
+        public synchronized void close() {
+            if (fired) {
+                Thread.interrupted();
+            }
+            closed = true;
+            watches.remove(worker, this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.applylikeprince.automation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BrowserEngine implements AutomationEngine {
+
+    private final WebDriverPool webDriverPool;
+    private final ResourcePolicy resourcePolicy;
+    private final SessionManager sessionManager;
+    private final FailureArtifacts failureArtifacts;
+    private final AutomationWatchdog watchdog;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public EngineType type() {
+        return EngineType.BROWSER;
+    }
+
+    @Override
+    public String run(SubmissionContext context, PlatformHandler handler, PhaseTimings timings) {
+        PooledDriver pooled = timings.time(PhaseTimings.Phase.DRIVER_ACQUIRE, webDriverPool::borrow);
+        watchdog.attach(pooled);
+        boolean browserBroken = false;
+        BrowserSession session = new BrowserSession(pooled.getDriver(), timings, pooled::recordVisit);
+        try {
+            resourcePolicy.apply(pooled.getDriver(), context.platformName());
+            return sessionManager.apply(handler, session, context);
+        } catch (RuntimeException e) {
+            // An interrupt here means the watchdog gave up on this browser
+            browserBroken = isDriverFailure(e) || Thread.currentThread().isInterrupted();
+            failureArtifacts.capture(pooled.getDriver(), context, e);
+            if (session.submitted() && !(e instanceof SubmissionOutcomeUnknownException)) {
+                throw new SubmissionOutcomeUnknownException(
+                        "Failed after the application form was submitted: " + e.getMessage(), e);
+            }
+            throw e;
+        } finally {
+            recordPageMetrics(context.platformName(), session);
+            watchdog.detach();
+            if (browserBroken) {
+                webDriverPool.invalidate(pooled);
+            } else {
+                webDriverPool.release(pooled);
+            }
+        }
+    }
+
+    // Page-level errors (missing elements, wait timeouts) leave the browser usable; the reset on release
+    // still discards it if it turns out not to be
+    private static boolean isDriverFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof NoSuchSessionException || t instanceof SessionNotCreatedException
+                    || t instanceof UnreachableBrowserException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void recordPageMetrics(String platformName, BrowserSession session) {
+        Timer.builder("automation.page.load")
+                .tag("platform", platformName)
+                .register(meterRegistry)
+                .record(session.navigationNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("automation.page.bytes")
+                .baseUnit("bytes")
+                .tag("platform", platformName)
+                .register(meterRegistry)
+                .record(session.bytesTransferred());
+    }
+}
@@ -0,0 +1,198 @@
+package com.applylikeprince.automation;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class BrowserSession implements AutomationSession {
+
+    private static final String TRANSFERRED_BYTES_SCRIPT = """
+            const nav = performance.getEntriesByType('navigation')[0];
+            const resources = performance.getEntriesByType('resource');
+            return (nav ? nav.transferSize : 0)
+                + resources.reduce((sum, r) => sum + (r.transferSize || 0), 0);
+            """;
+
+    private static final String SUBMITS_FORM_SCRIPT =
+            "const e = arguments[0]; return !!e.form && (e.type === 'submit' || e.type === 'image');";
+
+    private static final String EXPORT_STORAGE_SCRIPT = "return Object.assign({}, window.localStorage);";
+    private static final String IMPORT_STORAGE_SCRIPT =
+            "for (const [key, value] of Object.entries(arguments[0])) { localStorage.setItem(key, value); }";
+
+    private final WebDriver driver;
+    private final PhaseTimings timings;
+    // Told about every URL this session navigates to, so the pool knows which origins to clear
+    private final Consumer<String> visits;
+    private long navigationNanos;
+    private long bytesTransferred;
+    // Set once a form submit control has been clicked; failures after that may follow a delivered application
+    private boolean submitted;
+
+    public BrowserSession(WebDriver driver, PhaseTimings timings, Consumer<String> visits) {
+        this.driver = driver;
+        this.timings = timings;
+        this.visits = visits;
+    }
+
+    public long navigationNanos() {
+        return navigationNanos;
+    }
+
+    public long bytesTransferred() {
+        return bytesTransferred;
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    public boolean submitted() {
+        return submitted;
+    }
+
+    @Override
+    public EngineType engine() {
+        return EngineType.BROWSER;
+    }
+
+    @Override
+    public void open(String url) {
+        visits.accept(url);
+        long start = System.nanoTime();
+        driver.get(url);
+        long elapsed = System.nanoTime() - start;
+        navigationNanos += elapsed;
+        timings.record(PhaseTimings.Phase.PAGE_LOAD, elapsed);
+        bytesTransferred += measureTransferredBytes();
+    }
+
+    @Override
+    public String currentUrl() {
+        return driver.getCurrentUrl();
+    }
+
+    @Override
+    public String pageSource() {
+        return driver.getPageSource();
+    }
+
+    @Override
+    public boolean exists(String selector) {
+        return !driver.findElements(By.cssSelector(selector)).isEmpty();
+    }
+
+    @Override
+    public void waitFor(String selector, Duration timeout) {
+        new WebDriverWait(driver, timeout)
+                .until(ExpectedConditions.presenceOfElementLocated(By.cssSelector(selector)));
+    }
+
+    @Override
+    public void fill(String selector, String value) {
+        timings.time(PhaseTimings.Phase.FILL, () -> {
+            WebElement element = driver.findElement(By.cssSelector(selector));
+            element.clear();
+            element.sendKeys(value);
+        });
+    }
+
+    @Override
+    public void upload(String selector, Path file) {
+        timings.time(PhaseTimings.Phase.FILL, () ->
+                driver.findElement(By.cssSelector(selector)).sendKeys(file.toAbsolutePath().toString()));
+    }
+
+    @Override
+    public void click(String selector) {
+        timings.time(PhaseTimings.Phase.SUBMIT, () -> {
+            WebElement element = driver.findElement(By.cssSelector(selector));
+            // Counted before clicking, like HtmlSession: a click that times out may still have posted the form
+            submitted |= submitsForm(element);
+            element.click();
+        });
+        visits.accept(driver.getCurrentUrl());
+    }
+
+    @Override
+    public SessionState exportState() {
+        List<SessionState.StoredCookie> cookies = driver.manage().getCookies().stream()
+                .map(cookie -> new SessionState.StoredCookie(
+                        cookie.getName(),
+                        cookie.getValue(),
+                        cookie.getDomain(),
+                        cookie.getPath(),
+                        cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null,
+                        cookie.isSecure(),
+                        cookie.isHttpOnly()))
+                .toList();
+
+        Map<String, String> storage = new LinkedHashMap<>();
+        try {
+            if (((JavascriptExecutor) driver).executeScript(EXPORT_STORAGE_SCRIPT) instanceof Map<?, ?> values) {
+                values.forEach((key, value) -> storage.put(String.valueOf(key), String.valueOf(value)));
+            }
+        } catch (WebDriverException e) {
+            // Some pages (about:blank, data: URLs) have no accessible storage
+        }
+        return new SessionState(cookies, storage, System.currentTimeMillis());
+    }
+
+    @Override
+    public void importState(String origin, SessionState state) {
+        // Cookies can only be set for the document that is currently loaded
+        open(origin);
+        for (SessionState.StoredCookie stored : state.cookies()) {
+            try {
+                driver.manage().addCookie(new Cookie.Builder(stored.name(), stored.value())
+                        .domain(stored.domain())
+                        .path(stored.path())
+                        .expiresOn(stored.expiresAtMillis() != null ? new Date(stored.expiresAtMillis()) : null)
+                        .isSecure(stored.secure())
+                        .isHttpOnly(stored.httpOnly())
+                        .build());
+            } catch (WebDriverException e) {
+                // Cookie belongs to another domain of the platform; it is picked up again on the next save
+            }
+        }
+        if (!state.localStorage().isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(IMPORT_STORAGE_SCRIPT, state.localStorage());
+        }
+    }
+
+    @Override
+    public void requireFullBrowser(String reason) {
+        // Already running in a full browser
+    }
+
+    // Errs towards submitted when the check itself fails
+    private boolean submitsForm(WebElement element) {
+        try {
+            return !Boolean.FALSE.equals(((JavascriptExecutor) driver).executeScript(SUBMITS_FORM_SCRIPT, element));
+        } catch (WebDriverException e) {
+            return true;
+        }
+    }
+
+    private long measureTransferredBytes() {
+        try {
+            Object bytes = ((JavascriptExecutor) driver).executeScript(TRANSFERRED_BYTES_SCRIPT);
+            return bytes instanceof Number number ? number.longValue() : 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
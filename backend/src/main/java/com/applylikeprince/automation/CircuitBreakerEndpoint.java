@@ -0,0 +1,22 @@
+package com.applylikeprince.automation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Read-only on purpose: /actuator/** is not behind authentication
+@Component
+@Endpoint(id = "circuitbreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerEndpoint {
+
+    private final PlatformCircuitBreaker circuitBreaker;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> circuitBreakers() {
+        return circuitBreaker.snapshot();
+    }
+}
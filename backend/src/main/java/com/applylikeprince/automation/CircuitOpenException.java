@@ -0,0 +1,8 @@
+package com.applylikeprince.automation;
+
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
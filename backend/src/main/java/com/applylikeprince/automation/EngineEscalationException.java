@@ -0,0 +1,8 @@
+package com.applylikeprince.automation;
+
+public class EngineEscalationException extends RuntimeException {
+
+    public EngineEscalationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package com.applylikeprince.automation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remembers which engine worked for each platform/domain so escalation is paid only once
+@Component
+@RequiredArgsConstructor
+public class EngineSelector {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, EngineType> learned = new ConcurrentHashMap<>();
+
+    public String keyFor(SubmissionContext context) {
+        String url = context.hasJobUrl() ? context.jobUrl() : context.platformBaseUrl();
+        String host = null;
+        try {
+            host = url != null ? URI.create(url).getHost() : null;
+        } catch (IllegalArgumentException ignored) {
+            // fall back to the platform name alone
+        }
+        return context.platformName().toLowerCase() + "|" + (host != null ? host.toLowerCase() : "");
+    }
+
+    public EngineType choose(String key, PlatformCapabilities capabilities) {
+        EngineType remembered = learned.get(key);
+        if (remembered != null) {
+            return remembered;
+        }
+        return capabilities.needsJavaScript() ? EngineType.BROWSER : capabilities.preferredEngine();
+    }
+
+    public void remember(String key, EngineType engine) {
+        if (learned.put(key, engine) != engine) {
+            meterRegistry.counter("automation.engine.learned", "engine", engine.name()).increment();
+        }
+    }
+}
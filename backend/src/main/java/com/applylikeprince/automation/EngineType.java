@@ -0,0 +1,5 @@
+package com.applylikeprince.automation;
+
+public enum EngineType {
+    HTML, BROWSER
+}
@@ -0,0 +1,201 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.config.FileStorageConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Screenshot, DOM and console output of failed browser runs, zipped under <upload-dir>/artifacts
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FailureArtifacts {
+
+    private final AutomationProperties properties;
+    private final FileStorageConfig fileStorageConfig;
+    private final MeterRegistry meterRegistry;
+
+    // Captures not yet linked to their FAILED log entry, keyed by application id
+    private final Map<Long, String> scheduled = new ConcurrentHashMap<>();
+
+    private Path uploadDir;
+    private ThreadPoolExecutor writer;
+    private Counter written;
+    private Counter dropped;
+
+    private record Snapshot(Long applicationId, String url, String error, Instant capturedAt,
+            byte[] screenshot, String pageSource, List<LogEntry> console) {
+    }
+
+    @PostConstruct
+    public void init() {
+        uploadDir = Paths.get(fileStorageConfig.getUploadDir());
+        AutomationProperties.Artifacts config = properties.getArtifacts();
+        // Bounded queue: when the disk falls behind, new captures are dropped instead of piling up in memory
+        writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                Thread.ofPlatform().name("artifact-writer").daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        written = meterRegistry.counter("automation.artifacts.written");
+        dropped = meterRegistry.counter("automation.artifacts.dropped");
+        Gauge.builder("automation.artifacts.queued", writer, w -> w.getQueue().size()).register(meterRegistry);
+    }
+
+    // Runs on the worker thread while it still holds the driver; everything slow happens on the writer
+    public void capture(WebDriver driver, SubmissionContext context, Throwable error) {
+        if (!properties.getArtifacts().isEnabled() || context.applicationId() == null) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        Snapshot snapshot = new Snapshot(context.applicationId(), safely(driver::getCurrentUrl), error.getMessage(),
+                now, screenshot(driver), safely(driver::getPageSource), consoleLog(driver));
+        String relativePath = Paths.get("artifacts", context.applicationId().toString(),
+                "attempt-" + now.toEpochMilli() + ".zip").toString();
+
+        try {
+            writer.execute(() -> write(snapshot, uploadDir.resolve(relativePath)));
+            scheduled.put(context.applicationId(), relativePath);
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+            log.warn("Artifact writer is saturated, dropping capture for application {}", context.applicationId());
+        }
+    }
+
+    public Optional<String> takeScheduled(Long applicationId) {
+        return Optional.ofNullable(scheduled.remove(applicationId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.automation.artifacts.prune-interval:PT1H}")
+    public void prune() {
+        Path root = uploadDir.resolve("artifacts");
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        AutomationProperties.Artifacts config = properties.getArtifacts();
+        FileTime cutoff = FileTime.from(Instant.now().minus(config.getMaxAge()));
+
+        try (Stream<Path> files = Files.walk(root)) {
+            List<Path> newestFirst = files
+                    .filter(path -> path.toString().endsWith(".zip"))
+                    .sorted(Comparator.comparing(this::lastModified).reversed())
+                    .collect(Collectors.toList());
+            for (int i = 0; i < newestFirst.size(); i++) {
+                Path file = newestFirst.get(i);
+                if (i >= config.getMaxFiles() || lastModified(file).compareTo(cutoff) < 0) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to prune failure artifacts: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void write(Snapshot snapshot, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            try (OutputStream out = Files.newOutputStream(target);
+                 ZipOutputStream zip = new ZipOutputStream(out)) {
+                if (snapshot.screenshot() != null) {
+                    entry(zip, "screenshot.png", snapshot.screenshot());
+                }
+                if (snapshot.pageSource() != null) {
+                    entry(zip, "page.html", snapshot.pageSource().getBytes(StandardCharsets.UTF_8));
+                }
+                String console = snapshot.console().stream()
+                        .map(LogEntry::toString)
+                        .collect(Collectors.joining("\n"));
+                entry(zip, "console.log", console.getBytes(StandardCharsets.UTF_8));
+                String meta = "application: " + snapshot.applicationId() + "\n"
+                        + "captured: " + snapshot.capturedAt() + "\n"
+                        + "url: " + snapshot.url() + "\n"
+                        + "error: " + snapshot.error() + "\n";
+                entry(zip, "error.txt", meta.getBytes(StandardCharsets.UTF_8));
+            }
+            written.increment();
+        } catch (IOException e) {
+            log.warn("Failed to write failure artifacts for application {}: {}",
+                    snapshot.applicationId(), e.getMessage());
+        }
+    }
+
+    private void entry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    private byte[] screenshot(WebDriver driver) {
+        try {
+            return driver instanceof TakesScreenshot camera ? camera.getScreenshotAs(OutputType.BYTES) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private List<LogEntry> consoleLog(WebDriver driver) {
+        try {
+            return driver.manage().logs().get(LogType.BROWSER).getAll();
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private String safely(Supplier<String> read) {
+        try {
+            return read.get();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.applylikeprince.automation;
+
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class FailureClassifier {
+
+    public enum FailureType {
+        TRANSIENT, PERMANENT
+    }
+
+    public FailureType classify(Throwable error) {
+        // Checked first: a timeout or IO error wrapped around it must not make a sent application retryable
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof SubmissionOutcomeUnknownException) {
+                return FailureType.PERMANENT;
+            }
+        }
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            // A missing element means the page no longer matches the handler; retrying won't help
+            if (t instanceof NoSuchElementException || t instanceof InvalidArgumentException
+                    || t instanceof IllegalArgumentException) {
+                return FailureType.PERMANENT;
+            }
+            if (t instanceof TransientAutomationException || t instanceof WebDriverException
+                    || t instanceof IOException || t instanceof TimeoutException
+                    || t instanceof InterruptedException) {
+                return FailureType.TRANSIENT;
+            }
+        }
+        return FailureType.PERMANENT;
+    }
+}
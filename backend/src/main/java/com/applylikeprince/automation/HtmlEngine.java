@@ -0,0 +1,42 @@
+package com.applylikeprince.automation;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class HtmlEngine implements AutomationEngine {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+    private static final int TIMEOUT_MILLIS = 15_000;
+    private static final int MAX_BODY_BYTES = 5 * 1024 * 1024;
+
+    private final SessionManager sessionManager;
+
+    @Override
+    public EngineType type() {
+        return EngineType.HTML;
+    }
+
+    @Override
+    public String run(SubmissionContext context, PlatformHandler handler, PhaseTimings timings) {
+        Connection session = Jsoup.newSession()
+                .userAgent(USER_AGENT)
+                .timeout(TIMEOUT_MILLIS)
+                .maxBodySize(MAX_BODY_BYTES)
+                .followRedirects(true);
+        HtmlSession htmlSession = new HtmlSession(session, timings);
+        try {
+            return sessionManager.apply(handler, htmlSession, context);
+        } catch (RuntimeException e) {
+            // Once the form is posted, neither a browser rerun nor a retry may send it again
+            if (htmlSession.submitted() && !(e instanceof SubmissionOutcomeUnknownException)) {
+                throw new SubmissionOutcomeUnknownException(
+                        "Failed after the application form was submitted: " + e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.applylikeprince.automation;
+
+import org.jsoup.Connection;
+import org.jsoup.helper.HttpConnection;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.FormElement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Plain HTTP + HTML parsing; anything that needs a script to run escalates to the browser engine
+public class HtmlSession implements AutomationSession {
+
+    private final Connection session;
+    private final PhaseTimings timings;
+    private final Map<String, Path> pendingUploads = new LinkedHashMap<>();
+    private Document document;
+    // Set once a POST has gone out; from then on the run cannot be replayed in another engine
+    private boolean submitted;
+
+    public HtmlSession(Connection session, PhaseTimings timings) {
+        this.session = session;
+        this.timings = timings;
+    }
+
+    public boolean submitted() {
+        return submitted;
+    }
+
+    @Override
+    public EngineType engine() {
+        return EngineType.HTML;
+    }
+
+    @Override
+    public void open(String url) {
+        long start = System.nanoTime();
+        try {
+            document = session.newRequest().url(url).get();
+            pendingUploads.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to fetch " + url, e);
+        } finally {
+            timings.record(PhaseTimings.Phase.PAGE_LOAD, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public String currentUrl() {
+        return document != null ? document.location() : null;
+    }
+
+    @Override
+    public String pageSource() {
+        return document != null ? document.outerHtml() : "";
+    }
+
+    @Override
+    public boolean exists(String selector) {
+        return document != null && document.selectFirst(selector) != null;
+    }
+
+    @Override
+    public void waitFor(String selector, Duration timeout) {
+        // Static HTML never changes after load, so a missing element will not show up later
+        if (!exists(selector)) {
+            throw new EngineEscalationException("Element '" + selector + "' not present without JavaScript");
+        }
+    }
+
+    @Override
+    public void fill(String selector, String value) {
+        Element element = require(selector);
+        if (element.is("select")) {
+            Element option = element.select("option").stream()
+                    .filter(candidate -> value.equals(candidate.val()))
+                    .findFirst()
+                    .orElseThrow(() -> new EngineEscalationException(
+                            "No option '" + value + "' in '" + selector + "'"));
+            element.select("option").forEach(candidate -> candidate.removeAttr("selected"));
+            option.attr("selected", "selected");
+        } else {
+            element.val(value);
+        }
+    }
+
+    @Override
+    public void upload(String selector, Path file) {
+        Element element = require(selector);
+        if (!element.hasAttr("name")) {
+            throw new EngineEscalationException("File input '" + selector + "' has no name");
+        }
+        pendingUploads.put(element.attr("name"), file);
+    }
+
+    @Override
+    public void click(String selector) {
+        Element element = require(selector);
+        if (element.is("a[href]") && !element.attr("href").startsWith("javascript:")) {
+            open(element.absUrl("href"));
+        } else if (element.is("button:not([type=button]), input[type=submit], input[type=image]")) {
+            timings.time(PhaseTimings.Phase.SUBMIT, () -> submit(element));
+        } else {
+            throw new EngineEscalationException("Click on '" + selector + "' needs JavaScript");
+        }
+    }
+
+    @Override
+    public SessionState exportState() {
+        long now = System.currentTimeMillis();
+        List<SessionState.StoredCookie> cookies = session.cookieStore().getCookies().stream()
+                .map(cookie -> new SessionState.StoredCookie(
+                        cookie.getName(),
+                        cookie.getValue(),
+                        cookie.getDomain(),
+                        cookie.getPath(),
+                        cookie.getMaxAge() >= 0 ? now + cookie.getMaxAge() * 1000 : null,
+                        cookie.getSecure(),
+                        cookie.isHttpOnly()))
+                .toList();
+        // Local storage only exists where scripts run
+        return new SessionState(cookies, Map.of(), now);
+    }
+
+    @Override
+    public void importState(String origin, SessionState state) {
+        URI uri = URI.create(origin);
+        long now = System.currentTimeMillis();
+        for (SessionState.StoredCookie stored : state.cookies()) {
+            HttpCookie cookie = new HttpCookie(stored.name(), stored.value());
+            cookie.setDomain(stored.domain());
+            cookie.setPath(stored.path() != null ? stored.path() : "/");
+            cookie.setSecure(stored.secure());
+            cookie.setHttpOnly(stored.httpOnly());
+            cookie.setMaxAge(stored.expiresAtMillis() != null ? (stored.expiresAtMillis() - now) / 1000 : -1);
+            session.cookieStore().add(uri, cookie);
+        }
+    }
+
+    @Override
+    public void requireFullBrowser(String reason) {
+        throw new EngineEscalationException(reason);
+    }
+
+    private void submit(Element button) {
+        if (!(button.closest("form") instanceof FormElement form)) {
+            throw new EngineEscalationException("Submit button is not inside a form");
+        }
+
+        String action = form.hasAttr("action") ? form.absUrl("action") : document.location();
+        Connection request = session.newRequest().url(action)
+                .method("post".equalsIgnoreCase(form.attr("method")) ? Connection.Method.POST : Connection.Method.GET);
+
+        List<Connection.KeyVal> data = new ArrayList<>(form.formData());
+        data.removeIf(keyVal -> pendingUploads.containsKey(keyVal.key()));
+        if (button.hasAttr("name")) {
+            data.add(HttpConnection.KeyVal.create(button.attr("name"), button.val()));
+        }
+        request.data(data);
+
+        List<InputStream> streams = new ArrayList<>();
+        // Counted before sending: a request that fails mid-flight may still have reached the site
+        submitted |= request.request().method() == Connection.Method.POST;
+        try {
+            for (Map.Entry<String, Path> upload : pendingUploads.entrySet()) {
+                InputStream stream = Files.newInputStream(upload.getValue());
+                streams.add(stream);
+                request.data(upload.getKey(), upload.getValue().getFileName().toString(), stream);
+            }
+            document = request.execute().parse();
+            pendingUploads.clear();
+        } catch (IOException e) {
+            if (submitted) {
+                throw new SubmissionOutcomeUnknownException("Failed to submit form to " + action, e);
+            }
+            throw new UncheckedIOException("Failed to submit form to " + action, e);
+        } finally {
+            for (InputStream stream : streams) {
+                try {
+                    stream.close();
+                } catch (IOException ignored) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private Element require(String selector) {
+        Element element = document != null ? document.selectFirst(selector) : null;
+        if (element == null) {
+            throw new EngineEscalationException("Element '" + selector + "' not found in static HTML");
+        }
+        return element;
+    }
+}
@@ -0,0 +1,35 @@
+package com.applylikeprince.automation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class PhaseMetrics {
+
+    public static final String SUBMITTED = "submitted";
+    public static final String FAILED = "failed";
+    public static final String DEFERRED = "deferred";
+
+    private final MeterRegistry meterRegistry;
+
+    public void publish(String platformName, String outcome, PhaseTimings timings) {
+        timings.snapshot().forEach((phase, nanos) -> Timer.builder("automation.phase")
+                .tag("platform", platformName)
+                .tag("phase", phase.tag())
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS));
+        Timer.builder("automation.attempt")
+                .tag("platform", platformName)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(timings.totalNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,61 @@
+package com.applylikeprince.automation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Wall-clock time spent in each stage of a single submission attempt
+public class PhaseTimings {
+
+    public enum Phase {
+        COVER_LETTER, THROTTLE, DRIVER_ACQUIRE, PAGE_LOAD, FILL, SUBMIT, PERSIST;
+
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+    private final long startedAt = System.nanoTime();
+
+    public synchronized void record(Phase phase, long elapsedNanos) {
+        nanos.merge(phase, elapsedNanos, Long::sum);
+    }
+
+    public <T> T time(Phase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void time(Phase phase, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    public synchronized Map<Phase, Long> snapshot() {
+        return Map.copyOf(nanos);
+    }
+
+    public long totalNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    // e.g. "throttle=12ms page_load=840ms fill=35ms submit=410ms total=1402ms"
+    public synchronized String summary() {
+        StringJoiner joiner = new StringJoiner(" ");
+        nanos.forEach((phase, elapsed) ->
+                joiner.add(phase.tag() + "=" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms"));
+        joiner.add("total=" + TimeUnit.NANOSECONDS.toMillis(totalNanos()) + "ms");
+        return joiner.toString();
+    }
+}
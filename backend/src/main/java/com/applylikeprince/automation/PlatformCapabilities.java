@@ -0,0 +1,11 @@
+package com.applylikeprince.automation;
+
+import lombok.Builder;
+
+@Builder
+public record PlatformCapabilities(
+        boolean needsLogin,
+        boolean needsJavaScript,
+        int maxConcurrency,
+        EngineType preferredEngine) {
+}
@@ -0,0 +1,252 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// Stops sending work to a platform whose recent submissions mostly fail or hang,
+// then lets a few probes through once the open period has passed
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlatformCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final AutomationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    // Throws CircuitOpenException when the platform is not taking submissions right now
+    public Permit acquire(String platformName) {
+        if (!properties.getCircuitBreaker().isEnabled()) {
+            return new Permit(null, false);
+        }
+        Breaker breaker = breakerFor(platformName);
+        State admittedIn = breaker.tryAcquire();
+        if (admittedIn == State.OPEN) {
+            meterRegistry.counter("automation.circuit.rejected", "platform", platformName).increment();
+            throw new CircuitOpenException("Circuit open for " + platformName + ", submission deferred");
+        }
+        return new Permit(breaker, admittedIn == State.HALF_OPEN);
+    }
+
+    // Platforms the dispatcher should leave alone; their applications stay PENDING
+    public Set<String> pausedPlatforms() {
+        return breakers.values().stream()
+                .filter(breaker -> !breaker.allowsDispatch())
+                .map(breaker -> breaker.platform)
+                .collect(Collectors.toSet());
+    }
+
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        breakers.values().forEach(breaker -> snapshot.put(breaker.platform, breaker.snapshot()));
+        return snapshot;
+    }
+
+    private Breaker breakerFor(String platformName) {
+        return breakers.computeIfAbsent(platformName, name -> {
+            Breaker breaker = new Breaker(name, properties.getCircuitBreaker());
+            Gauge.builder("automation.circuit.state", breaker, b -> b.state.ordinal())
+                    .description("0 = closed, 1 = open, 2 = half-open")
+                    .tag("platform", name)
+                    .register(meterRegistry);
+            Gauge.builder("automation.circuit.failure.rate", breaker, Breaker::failureRate)
+                    .tag("platform", name)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    public final class Permit {
+        private final Breaker breaker;
+        private final boolean probe;
+        private boolean done;
+
+        private Permit(Breaker breaker, boolean probe) {
+            this.breaker = breaker;
+            this.probe = probe;
+        }
+
+        public void onSuccess(long durationNanos) {
+            record(false, durationNanos);
+        }
+
+        public void onFailure(long durationNanos) {
+            record(true, durationNanos);
+        }
+
+        // Gives back a half-open probe slot when the call never reached the platform
+        public void release() {
+            if (!done && breaker != null) {
+                done = true;
+                if (probe) {
+                    breaker.releaseProbe();
+                }
+            }
+        }
+
+        private void record(boolean failed, long durationNanos) {
+            if (!done && breaker != null) {
+                done = true;
+                breaker.record(probe, failed, durationNanos >= breaker.config.getSlowCallDuration().toNanos());
+            }
+        }
+    }
+
+    private final class Breaker {
+        private static final byte FAILED = 1;
+        private static final byte SLOW = 2;
+
+        private final String platform;
+        private final AutomationProperties.CircuitBreaker config;
+        // Outcomes of the last windowSize calls as FAILED/SLOW bit flags
+        private final byte[] window;
+        private int next;
+        private int calls;
+        private int failures;
+        private int slowCalls;
+
+        private State state = State.CLOSED;
+        private Instant openedAt;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        private Breaker(String platform, AutomationProperties.CircuitBreaker config) {
+            this.platform = platform;
+            this.config = config;
+            this.window = new byte[Math.max(1, config.getWindowSize())];
+        }
+
+        // Returns the state the call was admitted in, or OPEN when it was rejected
+        synchronized State tryAcquire() {
+            moveToHalfOpenIfDue();
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight >= config.getHalfOpenProbes()) {
+                    return State.OPEN;
+                }
+                probesInFlight++;
+            }
+            return state;
+        }
+
+        synchronized boolean allowsDispatch() {
+            moveToHalfOpenIfDue();
+            return state == State.CLOSED
+                    || (state == State.HALF_OPEN && probesInFlight < config.getHalfOpenProbes());
+        }
+
+        synchronized void record(boolean probe, boolean failed, boolean slow) {
+            if (probe) {
+                if (state == State.HALF_OPEN) {
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (failed || slow) {
+                        transition(State.OPEN);
+                    } else if (++probeSuccesses >= config.getHalfOpenProbes()) {
+                        transition(State.CLOSED);
+                    }
+                }
+                return;
+            }
+            if (state != State.CLOSED) {
+                // Result of a call that started before the circuit opened
+                return;
+            }
+
+            byte evicted = window[next];
+            if (calls == window.length) {
+                failures -= evicted & FAILED;
+                slowCalls -= (evicted & SLOW) >> 1;
+            } else {
+                calls++;
+            }
+            byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+            window[next] = outcome;
+            next = (next + 1) % window.length;
+            failures += outcome & FAILED;
+            slowCalls += (outcome & SLOW) >> 1;
+
+            if (calls >= config.getMinimumCalls()
+                    && (failureRate() >= config.getFailureRateThreshold()
+                    || (double) slowCalls / calls >= config.getSlowCallRateThreshold())) {
+                transition(State.OPEN);
+            }
+        }
+
+        synchronized void releaseProbe() {
+            if (state == State.HALF_OPEN) {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+            }
+        }
+
+        synchronized double failureRate() {
+            return calls == 0 ? 0 : (double) failures / calls;
+        }
+
+        synchronized Map<String, Object> snapshot() {
+            moveToHalfOpenIfDue();
+            Map<String, Object> view = new LinkedHashMap<>();
+            view.put("state", state);
+            view.put("calls", calls);
+            view.put("failureRate", failureRate());
+            view.put("slowCallRate", calls == 0 ? 0 : (double) slowCalls / calls);
+            view.put("openedAt", openedAt);
+            if (state == State.OPEN) {
+                view.put("retryAt", openedAt.plus(config.getOpenDuration()));
+            }
+            view.put("probesInFlight", probesInFlight);
+            return view;
+        }
+
+        synchronized void transition(State target) {
+            if (state == target) {
+                return;
+            }
+            log.warn("Circuit for {} {} -> {} (failure rate {}, {} calls)",
+                    platform, state, target, "%.2f".formatted(failureRate()), calls);
+            meterRegistry.counter("automation.circuit.transitions", "platform", platform, "to", target.name())
+                    .increment();
+            state = target;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            if (target == State.OPEN) {
+                openedAt = Instant.now();
+            } else if (target == State.CLOSED) {
+                openedAt = null;
+                clearWindow();
+            }
+        }
+
+        private void moveToHalfOpenIfDue() {
+            if (state == State.OPEN
+                    && Duration.between(openedAt, Instant.now()).compareTo(config.getOpenDuration()) >= 0) {
+                transition(State.HALF_OPEN);
+            }
+        }
+
+        private void clearWindow() {
+            Arrays.fill(window, (byte) 0);
+            next = 0;
+            calls = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
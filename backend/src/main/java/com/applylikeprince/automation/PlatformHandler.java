@@ -0,0 +1,22 @@
+package com.applylikeprince.automation;
+
+public interface PlatformHandler {
+
+    // Matches Platform.name; handlers are registered under this key at startup
+    String platformName();
+
+    PlatformCapabilities capabilities();
+
+    // Returns the data that was submitted, stored on the application for review
+    String apply(AutomationSession session, SubmissionContext context);
+
+    // Must positively detect a signed-in page; a session is only saved when this returns true
+    default boolean isLoggedIn(AutomationSession session) {
+        return false;
+    }
+
+    // Only called when no saved session could be restored for the user; returns whether it signed in
+    default boolean login(AutomationSession session, SubmissionContext context) {
+        return false;
+    }
+}
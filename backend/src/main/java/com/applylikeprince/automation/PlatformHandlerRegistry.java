@@ -0,0 +1,50 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.automation.handler.GenericPlatformHandler;
+import com.applylikeprince.automation.script.ScriptCache;
+import com.applylikeprince.automation.script.ScriptedPlatformHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class PlatformHandlerRegistry {
+
+    private final Map<String, PlatformHandler> handlers;
+    private final PlatformHandler fallback;
+    private final ScriptCache scriptCache;
+
+    public PlatformHandlerRegistry(List<PlatformHandler> discovered, GenericPlatformHandler fallback,
+            ScriptCache scriptCache) {
+        Map<String, PlatformHandler> byName = new HashMap<>();
+        for (PlatformHandler handler : discovered) {
+            String name = handler.platformName().toLowerCase();
+            PlatformHandler existing = byName.putIfAbsent(name, handler);
+            if (existing != null) {
+                throw new IllegalStateException("Duplicate platform handler for '" + name + "': "
+                        + existing.getClass().getSimpleName() + " and " + handler.getClass().getSimpleName());
+            }
+        }
+        this.handlers = Map.copyOf(byName);
+        this.fallback = fallback;
+        this.scriptCache = scriptCache;
+        log.info("Registered platform handlers: {}", handlers.keySet());
+    }
+
+    public PlatformHandler resolve(String platformName) {
+        return handlers.getOrDefault(platformName.toLowerCase(), fallback);
+    }
+
+    // A script stored on the platform row takes precedence over the code handler's apply steps
+    public PlatformHandler resolve(SubmissionContext context) {
+        PlatformHandler handler = resolve(context.platformName());
+        if (!context.hasScript()) {
+            return handler;
+        }
+        return new ScriptedPlatformHandler(scriptCache.planFor(context), handler);
+    }
+}
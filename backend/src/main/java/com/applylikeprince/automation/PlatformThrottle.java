@@ -0,0 +1,96 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlatformThrottle {
+
+    private final AutomationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final PlatformHandlerRegistry handlerRegistry;
+
+    private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    // Blocks until the platform has both a free in-flight slot and a rate token, then runs the action
+    public <T> T execute(String platformName, Supplier<T> action) {
+        Limiter limiter = limiters.computeIfAbsent(platformName.toLowerCase(), this::createLimiter);
+
+        long start = System.nanoTime();
+        limiter.waiting.incrementAndGet();
+        try {
+            limiter.bulkhead.acquire();
+        } catch (InterruptedException e) {
+            limiter.waiting.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new TransientAutomationException("Interrupted while waiting for " + platformName + " capacity", e);
+        }
+
+        try {
+            limiter.bucket.acquire();
+            limiter.waiting.decrementAndGet();
+            limiter.waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return action.get();
+        } catch (InterruptedException e) {
+            limiter.waiting.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new TransientAutomationException("Interrupted while waiting for " + platformName + " rate limit", e);
+        } finally {
+            limiter.bulkhead.release();
+        }
+    }
+
+    private Limiter createLimiter(String platformName) {
+        AutomationProperties.Limits limits = limitsFor(platformName);
+        log.info("Throttling {} at {} requests/min (burst {}), {} concurrent",
+                platformName, limits.getRequestsPerMinute(), limits.getBurst(), limits.getMaxConcurrent());
+
+        Limiter limiter = new Limiter(
+                new Semaphore(limits.getMaxConcurrent(), true),
+                new TokenBucket(limits.getRequestsPerMinute(), limits.getBurst()),
+                Timer.builder("automation.platform.throttle.wait")
+                        .tag("platform", platformName)
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry),
+                new AtomicInteger());
+
+        Gauge.builder("automation.platform.permits.in_use", limiter.bulkhead,
+                        bulkhead -> limits.getMaxConcurrent() - bulkhead.availablePermits())
+                .tag("platform", platformName)
+                .register(meterRegistry);
+        Gauge.builder("automation.platform.waiting", limiter.waiting, AtomicInteger::get)
+                .tag("platform", platformName)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    // Explicit configuration wins; otherwise the handler's declared concurrency sizes the bulkhead
+    private AutomationProperties.Limits limitsFor(String platformName) {
+        AutomationProperties.Throttle throttle = properties.getThrottle();
+        if (throttle.getPlatforms().containsKey(platformName)) {
+            return throttle.getPlatforms().get(platformName);
+        }
+        AutomationProperties.Limits limits = new AutomationProperties.Limits();
+        limits.setRequestsPerMinute(throttle.getDefaults().getRequestsPerMinute());
+        limits.setBurst(throttle.getDefaults().getBurst());
+        limits.setMaxConcurrent(handlerRegistry.resolve(platformName).capabilities().maxConcurrency());
+        return limits;
+    }
+
+    private record Limiter(Semaphore bulkhead, TokenBucket bucket, Timer waitTimer, AtomicInteger waiting) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.applylikeprince.automation;
+
+import lombok.Getter;
+import org.openqa.selenium.chrome.ChromeDriver;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Getter
+public class PooledDriver {
+
+    private final ChromeDriver driver;
+    private final String primaryWindow;
+    // chromedriver process backing this browser, when it could be identified
+    private final ProcessHandle driverProcess;
+    private final Instant createdAt = Instant.now();
+    private volatile Instant lastReturnedAt = Instant.now();
+    private volatile int uses;
+    private final AtomicBoolean borrowed = new AtomicBoolean();
+    // Origins navigated to since the last reset; their storage is wiped before the next borrower
+    private final Set<String> visitedOrigins = ConcurrentHashMap.newKeySet();
+
+    PooledDriver(ChromeDriver driver, ProcessHandle driverProcess) {
+        this.driver = driver;
+        this.driverProcess = driverProcess;
+        this.primaryWindow = driver.getWindowHandle();
+    }
+
+    public Optional<ProcessHandle> getDriverProcess() {
+        return Optional.ofNullable(driverProcess);
+    }
+
+    public void recordVisit(String url) {
+        try {
+            URI uri = URI.create(url);
+            String scheme = uri.getScheme();
+            if (uri.getHost() != null && ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+                visitedOrigins.add(scheme.toLowerCase() + "://" + uri.getHost().toLowerCase()
+                        + (uri.getPort() >= 0 ? ":" + uri.getPort() : ""));
+            }
+        } catch (IllegalArgumentException | NullPointerException ignored) {
+            // about:blank, data: URLs and the like have no origin worth clearing
+        }
+    }
+
+    List<String> drainVisitedOrigins() {
+        List<String> origins = List.copyOf(visitedOrigins);
+        visitedOrigins.removeAll(origins);
+        return origins;
+    }
+
+    void markBorrowed() {
+        borrowed.set(true);
+        uses++;
+    }
+
+    boolean markReturned() {
+        if (!borrowed.compareAndSet(true, false)) {
+            return false;
+        }
+        lastReturnedAt = Instant.now();
+        return true;
+    }
+
+    boolean isIdleLongerThan(Duration timeout) {
+        return lastReturnedAt.plus(timeout).isBefore(Instant.now());
+    }
+}
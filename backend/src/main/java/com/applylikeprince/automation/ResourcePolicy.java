@@ -0,0 +1,46 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Blocks heavy or irrelevant requests (images, fonts, media, trackers) through DevTools
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResourcePolicy {
+
+    private final AutomationProperties properties;
+
+    private final Map<String, List<String>> blockedByPlatform = new ConcurrentHashMap<>();
+
+    public void apply(ChromeDriver driver, String platformName) {
+        List<String> blocked = blockedByPlatform.computeIfAbsent(platformName.toLowerCase(), this::resolve);
+        try {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blocked));
+        } catch (Exception e) {
+            log.warn("Could not apply resource blocking for {}: {}", platformName, e.getMessage());
+        }
+    }
+
+    // Platform deny patterns add to the defaults; allow patterns remove matching defaults
+    private List<String> resolve(String platformName) {
+        AutomationProperties.Resources resources = properties.getResources();
+        Set<String> blocked = new LinkedHashSet<>(resources.getBlockedUrls());
+        AutomationProperties.UrlRules rules = resources.getPlatforms().get(platformName);
+        if (rules != null) {
+            blocked.addAll(rules.getDeny());
+            rules.getAllow().forEach(blocked::remove);
+        }
+        return List.copyOf(blocked);
+    }
+}
@@ -0,0 +1,69 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionManager {
+
+    private final SessionStore sessionStore;
+    private final AutomationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Restores the user's saved login before the handler navigates and saves it again afterwards
+    public String apply(PlatformHandler handler, AutomationSession session, SubmissionContext context) {
+        if (!properties.getSessions().isEnabled()
+                || !handler.capabilities().needsLogin()
+                || context.userId() == null
+                || context.platformBaseUrl() == null) {
+            return handler.apply(session, context);
+        }
+
+        boolean restored = restore(session, context);
+        boolean loggedIn = !restored && handler.login(session, context);
+
+        String result = handler.apply(session, context);
+
+        // Anonymous cookies are never worth keeping: only a real sign-in, or a restored one that
+        // still checks out, gets written back
+        if ((restored || loggedIn) && handler.isLoggedIn(session)) {
+            sessionStore.save(context.userId(), context.platformName(), session.exportState());
+            count("saved", context.platformName());
+        } else if (restored) {
+            // The platform rejected the saved cookies; drop them so the next run signs in again
+            log.info("Saved {} session for user {} has expired", context.platformName(), context.userId());
+            sessionStore.invalidate(context.userId(), context.platformName());
+            count("expired", context.platformName());
+        }
+        return result;
+    }
+
+    private boolean restore(AutomationSession session, SubmissionContext context) {
+        Optional<SessionState> state = sessionStore.load(context.userId(), context.platformName());
+        if (state.isEmpty()) {
+            count("missing", context.platformName());
+            return false;
+        }
+        try {
+            session.importState(context.platformBaseUrl(), state.get());
+            count("restored", context.platformName());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to restore {} session for user {}: {}",
+                    context.platformName(), context.userId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void count(String outcome, String platformName) {
+        meterRegistry.counter("automation.session.restores", "platform", platformName, "outcome", outcome)
+                .increment();
+    }
+}
@@ -0,0 +1,31 @@
+package com.applylikeprince.automation;
+
+import java.util.List;
+import java.util.Map;
+
+public record SessionState(
+        List<StoredCookie> cookies,
+        Map<String, String> localStorage,
+        long savedAtMillis) {
+
+    public record StoredCookie(
+            String name,
+            String value,
+            String domain,
+            String path,
+            Long expiresAtMillis,
+            boolean secure,
+            boolean httpOnly) {
+
+        public boolean isExpired(long nowMillis) {
+            return expiresAtMillis != null && expiresAtMillis <= nowMillis;
+        }
+    }
+
+    public SessionState withoutExpiredCookies(long nowMillis) {
+        return new SessionState(
+                cookies.stream().filter(cookie -> !cookie.isExpired(nowMillis)).toList(),
+                localStorage,
+                savedAtMillis);
+    }
+}
@@ -0,0 +1,115 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.config.FileStorageConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Optional;
+
+// Browser sessions (cookies + local storage) per user and platform, AES-GCM encrypted at rest
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionStore {
+
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final AutomationProperties properties;
+    private final FileStorageConfig fileStorageConfig;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecureRandom random = new SecureRandom();
+
+    private Path baseDir;
+    private SecretKeySpec key;
+
+    @PostConstruct
+    public void init() throws Exception {
+        baseDir = Paths.get(fileStorageConfig.getUploadDir(), "sessions");
+        Files.createDirectories(baseDir);
+        byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(properties.getSessions().getSecret().getBytes(StandardCharsets.UTF_8));
+        key = new SecretKeySpec(digest, "AES");
+    }
+
+    public Optional<SessionState> load(Long userId, String platformName) {
+        Path file = fileFor(userId, platformName);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            SessionState state = objectMapper.readValue(decrypt(Files.readAllBytes(file)), SessionState.class);
+            long now = System.currentTimeMillis();
+            if (state.savedAtMillis() + properties.getSessions().getMaxAge().toMillis() < now) {
+                log.debug("Stored {} session for user {} is older than max age", platformName, userId);
+                invalidate(userId, platformName);
+                return Optional.empty();
+            }
+            SessionState live = state.withoutExpiredCookies(now);
+            if (live.cookies().isEmpty()) {
+                invalidate(userId, platformName);
+                return Optional.empty();
+            }
+            return Optional.of(live);
+        } catch (Exception e) {
+            log.warn("Discarding unreadable {} session for user {}: {}", platformName, userId, e.getMessage());
+            invalidate(userId, platformName);
+            return Optional.empty();
+        }
+    }
+
+    public void save(Long userId, String platformName, SessionState state) {
+        Path file = fileFor(userId, platformName);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), platformName, ".tmp");
+            Files.write(temp, encrypt(objectMapper.writeValueAsBytes(state)));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.warn("Failed to store {} session for user {}: {}", platformName, userId, e.getMessage());
+        }
+    }
+
+    public void invalidate(Long userId, String platformName) {
+        try {
+            Files.deleteIfExists(fileFor(userId, platformName));
+        } catch (Exception e) {
+            log.warn("Failed to delete {} session for user {}: {}", platformName, userId, e.getMessage());
+        }
+    }
+
+    private Path fileFor(Long userId, String platformName) {
+        String safeName = platformName.toLowerCase().replaceAll("[^a-z0-9_-]", "_");
+        return baseDir.resolve(userId.toString()).resolve(safeName + ".session");
+    }
+
+    private byte[] encrypt(byte[] plain) throws Exception {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+        byte[] sealed = cipher.doFinal(plain);
+        return ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array();
+    }
+
+    private byte[] decrypt(byte[] data) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_BYTES));
+        return cipher.doFinal(data, IV_BYTES, data.length - IV_BYTES);
+    }
+}
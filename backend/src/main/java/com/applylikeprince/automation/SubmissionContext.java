@@ -0,0 +1,92 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.entity.Platform;
+import com.applylikeprince.entity.Resume;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder(toBuilder = true)
+public record SubmissionContext(
+        Long applicationId,
+        Long userId,
+        Long platformId,
+        String platformName,
+        String platformDisplayName,
+        String platformBaseUrl,
+        String platformScript,
+        String platformFieldMappings,
+        LocalDateTime platformUpdatedAt,
+        String jobTitle,
+        String company,
+        String jobUrl,
+        String location,
+        String jobDescription,
+        String coverLetter,
+        boolean generateCoverLetter,
+        String resumeContent,
+        String resumeFilePath,
+        String candidateName,
+        String candidateEmail,
+        String candidatePhone,
+        String candidateSkills) {
+
+    public static SubmissionContext fromEntity(JobApplication application) {
+        Platform platform = application.getPlatform();
+        Resume resume = application.getResume();
+        return SubmissionContext.builder()
+                .applicationId(application.getId())
+                .userId(application.getUser().getId())
+                .platformId(platform.getId())
+                .platformName(platform.getName())
+                .platformDisplayName(platform.getDisplayName())
+                .platformBaseUrl(platform.getBaseUrl())
+                .platformScript(platform.getAutomationScript())
+                .platformFieldMappings(platform.getFieldMappings())
+                .platformUpdatedAt(platform.getUpdatedAt())
+                .jobTitle(application.getJobTitle())
+                .company(application.getCompany())
+                .jobUrl(application.getJobUrl())
+                .location(application.getLocation())
+                .jobDescription(application.getJobDescription())
+                .coverLetter(application.getCoverLetter())
+                .generateCoverLetter(Boolean.TRUE.equals(application.getGenerateCoverLetter()))
+                .resumeContent(resume != null ? resume.getRawContent() : null)
+                .resumeFilePath(resume != null ? resume.getFilePath() : null)
+                .candidateName(resume != null ? resume.getExtractedName() : null)
+                .candidateEmail(resume != null ? resume.getExtractedEmail() : null)
+                .candidatePhone(resume != null ? resume.getExtractedPhone() : null)
+                .candidateSkills(resume != null ? resume.getExtractedSkills() : null)
+                .build();
+    }
+
+    public SubmissionContext withCoverLetter(String coverLetter) {
+        return toBuilder().coverLetter(coverLetter).build();
+    }
+
+    public boolean hasScript() {
+        return platformScript != null && !platformScript.isBlank();
+    }
+
+    public boolean hasJobUrl() {
+        return jobUrl != null && !jobUrl.isEmpty();
+    }
+
+    public String toSubmissionData() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== Application Submission Data ===\n");
+        sb.append("Name: ").append(candidateName).append("\n");
+        sb.append("Email: ").append(candidateEmail).append("\n");
+        sb.append("Phone: ").append(candidatePhone).append("\n");
+        sb.append("Job Title: ").append(jobTitle).append("\n");
+        sb.append("Company: ").append(company).append("\n");
+        sb.append("Location: ").append(location).append("\n");
+        sb.append("Skills: ").append(candidateSkills).append("\n");
+        if (coverLetter != null) {
+            sb.append("\n=== Cover Letter ===\n");
+            sb.append(coverLetter).append("\n");
+        }
+        return sb.toString();
+    }
+}
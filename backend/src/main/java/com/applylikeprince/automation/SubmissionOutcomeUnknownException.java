@@ -0,0 +1,9 @@
+package com.applylikeprince.automation;
+
+// The application may already have reached the employer; retrying it could apply twice
+public class SubmissionOutcomeUnknownException extends RuntimeException {
+
+    public SubmissionOutcomeUnknownException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
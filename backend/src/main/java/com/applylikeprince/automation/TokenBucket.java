@@ -0,0 +1,39 @@
+package com.applylikeprince.automation;
+
+import java.util.concurrent.TimeUnit;
+
+// Reservation-based bucket: each caller books the next free slot, so waiters are served in
+// arrival order without waking up together, and up to `burst` unused permits can be banked
+class TokenBucket {
+
+    private final double intervalNanos;
+    private final double maxStored;
+    private double stored;
+    private long nextFreeNanos = System.nanoTime();
+
+    TokenBucket(double permitsPerMinute, int burst) {
+        this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+        this.maxStored = Math.max(1, burst);
+        this.stored = maxStored;
+    }
+
+    void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        if (now > nextFreeNanos) {
+            stored = Math.min(maxStored, stored + (now - nextFreeNanos) / intervalNanos);
+            nextFreeNanos = now;
+        }
+        long waitNanos = nextFreeNanos - now;
+        double fromStored = Math.min(1, stored);
+        stored -= fromStored;
+        nextFreeNanos += (long) ((1 - fromStored) * intervalNanos);
+        return waitNanos;
+    }
+}
@@ -0,0 +1,12 @@
+package com.applylikeprince.automation;
+
+public class TransientAutomationException extends RuntimeException {
+
+    public TransientAutomationException(String message) {
+        super(message);
+    }
+
+    public TransientAutomationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
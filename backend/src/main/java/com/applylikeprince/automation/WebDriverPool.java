@@ -0,0 +1,320 @@
+package com.applylikeprince.automation;
+
+import com.applylikeprince.config.AutomationProperties;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.logging.Level;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebDriverPool {
+
+    private final AutomationProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // Most recently returned browsers sit at the head, so idle eviction works from the tail
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledDriver> all = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger orphans = new AtomicInteger();
+
+    private Semaphore permits;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+    private Timer borrowWait;
+
+    @PostConstruct
+    public void init() {
+        AutomationProperties.Pool pool = properties.getPool();
+        permits = new Semaphore(pool.getMaxSize(), true);
+
+        hits = meterRegistry.counter("automation.driver.pool.hits");
+        misses = meterRegistry.counter("automation.driver.pool.misses");
+        evictions = meterRegistry.counter("automation.driver.pool.evictions");
+        borrowWait = Timer.builder("automation.driver.pool.borrow.wait")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("automation.driver.pool.idle", idle, Collection::size).register(meterRegistry);
+        Gauge.builder("automation.driver.pool.total", all, Collection::size).register(meterRegistry);
+        Gauge.builder("automation.driver.pool.active", this, p -> p.all.size() - p.idle.size())
+                .register(meterRegistry);
+        Gauge.builder("automation.browser.zombies", orphans, AtomicInteger::get)
+                .description("chrome/chromedriver processes no pooled browser owns")
+                .register(meterRegistry);
+
+        // Resolve the chromedriver binary once instead of on every submission
+        try {
+            WebDriverManager.chromedriver().setup();
+        } catch (Exception e) {
+            log.error("Failed to resolve chromedriver binary: {}", e.getMessage());
+        }
+
+        topUp();
+    }
+
+    public PooledDriver borrow() {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(properties.getPool().getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TransientAutomationException("Timed out waiting for a browser from the pool");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientAutomationException("Interrupted while waiting for a browser", e);
+        } finally {
+            borrowWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idle.pollFirst()) != null) {
+                if (isHealthy(pooled)) {
+                    hits.increment();
+                    pooled.markBorrowed();
+                    return pooled;
+                }
+                destroy(pooled);
+            }
+
+            misses.increment();
+            pooled = create();
+            pooled.markBorrowed();
+            return pooled;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(PooledDriver pooled) {
+        if (!pooled.markReturned()) {
+            return;
+        }
+        try {
+            if (pooled.getUses() >= properties.getPool().getMaxUsesPerBrowser() || !resetProfile(pooled)) {
+                destroy(pooled);
+            } else {
+                idle.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void invalidate(PooledDriver pooled) {
+        if (!pooled.markReturned()) {
+            return;
+        }
+        try {
+            destroy(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.automation.pool.eviction-interval:PT30S}")
+    public void evictIdle() {
+        AutomationProperties.Pool pool = properties.getPool();
+        Iterator<PooledDriver> oldestFirst = idle.descendingIterator();
+        while (oldestFirst.hasNext() && all.size() > pool.getMinSize()) {
+            PooledDriver pooled = oldestFirst.next();
+            if (pooled.isIdleLongerThan(pool.getIdleTimeout()) && idle.remove(pooled)) {
+                evictions.increment();
+                destroy(pooled);
+            }
+        }
+        topUp();
+    }
+
+    // Hard stop for a hung browser: the borrower's pending WebDriver call fails and it invalidates the driver
+    public void kill(PooledDriver pooled) {
+        pooled.getDriverProcess().ifPresentOrElse(this::destroyTree,
+                () -> log.warn("Cannot kill hung browser: chromedriver process unknown"));
+    }
+
+    // chromedriver processes started by this JVM that no pooled browser owns, e.g. after a failed quit()
+    @Scheduled(fixedDelayString = "${app.automation.watchdog.interval:PT10S}")
+    public void reapOrphans() {
+        AutomationProperties.Watchdog watchdog = properties.getWatchdog();
+        Set<Long> owned = all.stream()
+                .map(PooledDriver::getDriverProcess)
+                .flatMap(process -> process.stream().map(ProcessHandle::pid))
+                .collect(Collectors.toSet());
+        Instant startedBefore = Instant.now().minus(watchdog.getOrphanGrace());
+        List<ProcessHandle> found = ProcessHandle.current().descendants()
+                .filter(WebDriverPool::isChromedriver)
+                .filter(process -> !owned.contains(process.pid()))
+                // Skip drivers still starting up, which are not in the pool yet
+                .filter(process -> process.info().startInstant().map(startedBefore::isAfter).orElse(false))
+                .toList();
+        orphans.set(found.stream().mapToInt(process -> 1 + (int) process.descendants().count()).sum());
+        if (found.isEmpty()) {
+            return;
+        }
+
+        // Without a pid for every pooled browser, a live one could look orphaned
+        boolean allIdentified = all.stream().allMatch(pooled -> pooled.getDriverProcess().isPresent());
+        if (watchdog.isKillOrphans() && allIdentified) {
+            log.warn("Killing {} orphaned chromedriver process tree(s)", found.size());
+            found.forEach(this::destroyTree);
+        } else {
+            log.warn("Found {} orphaned chromedriver process tree(s)", found.size());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        idle.clear();
+        all.forEach(this::destroy);
+    }
+
+    private void topUp() {
+        int minSize = Math.min(properties.getPool().getMinSize(), properties.getPool().getMaxSize());
+        while (all.size() < minSize) {
+            try {
+                idle.offerLast(create());
+            } catch (Exception e) {
+                log.warn("Failed to pre-warm browser pool: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private PooledDriver create() {
+        ChromeOptions options = new ChromeOptions();
+        if (properties.isHeadless()) {
+            options.addArguments("--headless");
+        }
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+
+        // Return from navigation once the DOM is ready; handlers use explicit waits for what they need
+        AutomationProperties.Resources resources = properties.getResources();
+        options.setPageLoadStrategy(PageLoadStrategy.fromString(resources.getPageLoadStrategy()));
+        if (resources.isBlockImages()) {
+            options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+        }
+
+        // Console output is kept so failure artifacts can include it
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+
+        // Bound every navigation, script and driver round trip so a hung page cannot block forever
+        AutomationProperties.Watchdog watchdog = properties.getWatchdog();
+        options.setPageLoadTimeout(watchdog.getPageLoadTimeout());
+        options.setScriptTimeout(watchdog.getScriptTimeout());
+        ChromeDriver driver = new ChromeDriver(ChromeDriverService.createDefaultService(), options,
+                ClientConfig.defaultConfig().readTimeout(watchdog.getCommandTimeout()));
+
+        PooledDriver pooled = new PooledDriver(driver, findDriverProcess(driver));
+        all.add(pooled);
+        log.debug("Started pooled browser ({} total)", all.size());
+        return pooled;
+    }
+
+    // The chromedriver child listening on the port this driver talks to
+    private static ProcessHandle findDriverProcess(ChromeDriver driver) {
+        if (!(driver.getCommandExecutor() instanceof HttpCommandExecutor executor)) {
+            return null;
+        }
+        String portArgument = "--port=" + executor.getAddressOfRemoteServer().getPort();
+        return ProcessHandle.current().children()
+                .filter(WebDriverPool::isChromedriver)
+                .filter(process -> process.info().arguments().map(List::of).orElse(List.of()).contains(portArgument))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isChromedriver(ProcessHandle process) {
+        return process.info().command().map(command -> command.contains("chromedriver")).orElse(false);
+    }
+
+    private void destroyTree(ProcessHandle process) {
+        // Children first so chrome is not re-parented to init when chromedriver exits
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            return pooled.getDriver().getSessionId() != null && pooled.getDriver().getWindowHandle() != null;
+        } catch (Exception e) {
+            log.debug("Discarding unhealthy pooled browser: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    // Any failure here means leftovers from the last borrower may survive, so the caller destroys the browser
+    private boolean resetProfile(PooledDriver pooled) {
+        ChromeDriver driver = pooled.getDriver();
+        try {
+            for (String handle : driver.getWindowHandles()) {
+                // Pages reached by clicks or redirects were never recorded by open()
+                pooled.recordVisit(driver.switchTo().window(handle).getCurrentUrl());
+                if (!handle.equals(pooled.getPrimaryWindow())) {
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(pooled.getPrimaryWindow());
+            // Leave the last page first so its scripts cannot write storage back after it is cleared
+            driver.get("about:blank");
+            // deleteAllCookies() only covers the current document's domain; this covers every domain
+            driver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            for (String origin : pooled.drainVisitedOrigins()) {
+                driver.executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", origin, "storageTypes", "all"));
+            }
+            // Reading the console buffer drains it, so the next borrower starts clean
+            driver.manage().logs().get(LogType.BROWSER);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to reset pooled browser profile, discarding it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver pooled) {
+        all.remove(pooled);
+        try {
+            pooled.getDriver().quit();
+        } catch (Exception e) {
+            log.debug("Error while quitting browser: {}", e.getMessage());
+        }
+    }
+}
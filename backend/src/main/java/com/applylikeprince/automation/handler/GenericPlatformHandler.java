@@ -0,0 +1,164 @@
+package com.applylikeprince.automation.handler;
+
+import com.applylikeprince.automation.AutomationSession;
+import com.applylikeprince.automation.EngineType;
+import com.applylikeprince.automation.PlatformCapabilities;
+import com.applylikeprince.automation.PlatformHandler;
+import com.applylikeprince.automation.SubmissionContext;
+import com.applylikeprince.automation.SubmissionOutcomeUnknownException;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// Fallback for platforms without a dedicated handler: submits only a form that is clearly a job application
+// on the job's own page, and only reports success once the site confirms it
+@Component
+@Slf4j
+public class GenericPlatformHandler implements PlatformHandler {
+
+    // Login, search, newsletter and job-alert forms never take a file upload; login forms also have a password
+    private static final String CANDIDATE_FORMS = "form:has(input[type=file]):not(:has(input[type=password]))";
+    private static final String SUBMIT_CONTROLS =
+            "button:not([type=button]):not([type=reset]), input[type=submit], input[type=image]";
+    private static final Pattern APPLY_ACTION = Pattern.compile("\\b(apply|submit)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CONFIRMATION = Pattern.compile(
+            "thank(s| you) for (applying|your application)"
+                    + "|application (has been |was )?(received|submitted|sent)"
+                    + "|successfully (applied|submitted)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Duration CONFIRMATION_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final PlatformCapabilities CAPABILITIES = PlatformCapabilities.builder()
+            .needsLogin(false)
+            .needsJavaScript(false)
+            .maxConcurrency(4)
+            .preferredEngine(EngineType.HTML)
+            .build();
+
+    private record ApplicationForm(String form, String submit) {
+    }
+
+    @Override
+    public String platformName() {
+        return "generic";
+    }
+
+    @Override
+    public PlatformCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public String apply(AutomationSession session, SubmissionContext context) {
+        log.info("Processing generic application for platform: {} ({} engine)",
+                context.platformDisplayName(), session.engine());
+
+        if (!context.hasJobUrl()) {
+            throw new IllegalStateException("No job URL to apply on for " + context.platformDisplayName());
+        }
+        session.open(context.jobUrl());
+
+        Optional<ApplicationForm> found = findApplicationForm(session, context.jobUrl());
+        if (found.isEmpty()) {
+            // The form may only be rendered by scripts; the browser engine gets the final say
+            session.requireFullBrowser("No application form found");
+            throw new IllegalStateException("No recognisable application form on " + session.currentUrl());
+        }
+        ApplicationForm form = found.get();
+
+        String submissionData = context.toSubmissionData();
+        fillIfPresent(session, form.form() + " input[type=email], " + form.form() + " input[name*=email]",
+                context.candidateEmail());
+        fillIfPresent(session, form.form() + " input[type=tel], " + form.form() + " input[name*=phone]",
+                context.candidatePhone());
+        fillIfPresent(session, form.form() + " input[name*=name]:not([name*=email]):not([name*=user])",
+                context.candidateName());
+        fillIfPresent(session, form.form() + " textarea[name*=cover], " + form.form() + " textarea[name*=message]",
+                context.coverLetter());
+        if (context.resumeFilePath() != null) {
+            session.upload(form.form() + " input[type=file]", Path.of(context.resumeFilePath()));
+        }
+        session.click(form.submit());
+
+        if (!awaitConfirmation(session)) {
+            // Not retried: the form may well have gone through, and a second attempt would apply twice
+            throw new IllegalStateException("Application form submitted on " + context.jobUrl()
+                    + " but the site did not confirm it");
+        }
+        log.info("Generic application form submitted and confirmed");
+        return submissionData;
+    }
+
+    // A POST form with a file input and an apply/submit button, served from the job URL's own host
+    private Optional<ApplicationForm> findApplicationForm(AutomationSession session, String jobUrl) {
+        String pageUrl = session.currentUrl();
+        if (!sameHost(pageUrl, jobUrl)) {
+            log.info("Job URL {} ended up on {}, not looking for a form there", jobUrl, pageUrl);
+            return Optional.empty();
+        }
+        Document page = Jsoup.parse(session.pageSource(), pageUrl);
+        for (Element form : page.select(CANDIDATE_FORMS)) {
+            String action = form.hasAttr("action") ? form.absUrl("action") : pageUrl;
+            if (!"post".equalsIgnoreCase(form.attr("method")) || !sameHost(action, jobUrl)) {
+                continue;
+            }
+            for (Element submit : form.select(SUBMIT_CONTROLS)) {
+                String label = String.join(" ", submit.text(), submit.val(), submit.attr("aria-label"),
+                        submit.attr("name"), submit.id());
+                if (APPLY_ACTION.matcher(label).find()) {
+                    return Optional.of(new ApplicationForm(form.cssSelector(), submit.cssSelector()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Static pages are final after the POST; in a browser the response may still be rendering
+    private boolean awaitConfirmation(AutomationSession session) {
+        long deadline = System.nanoTime() + CONFIRMATION_TIMEOUT.toNanos();
+        while (true) {
+            if (CONFIRMATION.matcher(Jsoup.parse(session.pageSource()).text()).find()) {
+                return true;
+            }
+            if (session.engine() == EngineType.HTML || System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SubmissionOutcomeUnknownException("Interrupted while waiting for confirmation", e);
+            }
+        }
+    }
+
+    private static boolean sameHost(String url, String other) {
+        try {
+            String host = URI.create(url).getHost();
+            String otherHost = URI.create(other).getHost();
+            return host != null && otherHost != null && stripWww(host).equals(stripWww(otherHost));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private static String stripWww(String host) {
+        String lower = host.toLowerCase(Locale.ROOT);
+        return lower.startsWith("www.") ? lower.substring(4) : lower;
+    }
+
+    private void fillIfPresent(AutomationSession session, String selector, String value) {
+        if (value != null && session.exists(selector)) {
+            session.fill(selector, value);
+        }
+    }
+}
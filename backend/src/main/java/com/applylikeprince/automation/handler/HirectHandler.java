@@ -0,0 +1,43 @@
+package com.applylikeprince.automation.handler;
+
+import com.applylikeprince.automation.AutomationSession;
+import com.applylikeprince.automation.EngineType;
+import com.applylikeprince.automation.PlatformCapabilities;
+import com.applylikeprince.automation.PlatformHandler;
+import com.applylikeprince.automation.SubmissionContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class HirectHandler implements PlatformHandler {
+
+    private static final PlatformCapabilities CAPABILITIES = PlatformCapabilities.builder()
+            .needsLogin(true)
+            .needsJavaScript(true)
+            .maxConcurrency(2)
+            .preferredEngine(EngineType.BROWSER)
+            .build();
+
+    @Override
+    public String platformName() {
+        return "hirect";
+    }
+
+    @Override
+    public PlatformCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public String apply(AutomationSession session, SubmissionContext context) {
+        log.info("Processing Hirect application");
+
+        session.open("https://www.hirect.in/jobs");
+
+        String submissionData = context.toSubmissionData();
+
+        log.info("Hirect application data prepared for job: {}", context.jobTitle());
+        return submissionData;
+    }
+}
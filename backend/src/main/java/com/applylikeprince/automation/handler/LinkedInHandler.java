@@ -0,0 +1,63 @@
+package com.applylikeprince.automation.handler;
+
+import com.applylikeprince.automation.AutomationSession;
+import com.applylikeprince.automation.EngineType;
+import com.applylikeprince.automation.PlatformCapabilities;
+import com.applylikeprince.automation.PlatformHandler;
+import com.applylikeprince.automation.SubmissionContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@Slf4j
+public class LinkedInHandler implements PlatformHandler {
+
+    private static final PlatformCapabilities CAPABILITIES = PlatformCapabilities.builder()
+            .needsLogin(true)
+            .needsJavaScript(true)
+            .maxConcurrency(2)
+            .preferredEngine(EngineType.BROWSER)
+            .build();
+
+    @Override
+    public String platformName() {
+        return "linkedin";
+    }
+
+    @Override
+    public PlatformCapabilities capabilities() {
+        return CAPABILITIES;
+    }
+
+    @Override
+    public String apply(AutomationSession session, SubmissionContext context) {
+        log.info("Processing LinkedIn application");
+
+        // Navigate to job URL if provided
+        if (context.hasJobUrl()) {
+            session.open(context.jobUrl());
+        } else {
+            session.open("https://www.linkedin.com/jobs/");
+        }
+
+        // Wait for page to load
+        session.waitFor("body", Duration.ofSeconds(10));
+
+        // Note: In production, this would need proper LinkedIn authentication
+        // For now, we'll store the submission data for manual review
+        String submissionData = context.toSubmissionData();
+
+        log.info("LinkedIn application data prepared for job: {}", context.jobTitle());
+        return submissionData;
+    }
+
+    @Override
+    public boolean isLoggedIn(AutomationSession session) {
+        // Public job pages render without the signed-in member menu, so the URL alone proves nothing
+        String url = session.currentUrl();
+        return url != null && !url.contains("/login") && !url.contains("/authwall") && !url.contains("/checkpoint")
+                && session.exists(".global-nav__me");
+    }
+}
@@ -0,0 +1,46 @@
+package com.applylikeprince.automation.script;
+
+import com.applylikeprince.automation.SubmissionContext;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Values a script can read from the submission, by the name used in the DSL
+public enum ScriptAttribute {
+    NAME("name", SubmissionContext::candidateName),
+    EMAIL("email", SubmissionContext::candidateEmail),
+    PHONE("phone", SubmissionContext::candidatePhone),
+    SKILLS("skills", SubmissionContext::candidateSkills),
+    COVER_LETTER("coverLetter", SubmissionContext::coverLetter),
+    RESUME("resume", SubmissionContext::resumeFilePath),
+    JOB_TITLE("jobTitle", SubmissionContext::jobTitle),
+    COMPANY("company", SubmissionContext::company),
+    LOCATION("location", SubmissionContext::location),
+    JOB_URL("jobUrl", SubmissionContext::jobUrl),
+    BASE_URL("baseUrl", SubmissionContext::platformBaseUrl);
+
+    private static final Map<String, ScriptAttribute> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(attribute -> attribute.key.toLowerCase(), Function.identity()));
+
+    private final String key;
+    private final Function<SubmissionContext, String> reader;
+
+    ScriptAttribute(String key, Function<SubmissionContext, String> reader) {
+        this.key = key;
+        this.reader = reader;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public String read(SubmissionContext context) {
+        return reader.apply(context);
+    }
+
+    public static ScriptAttribute fromKey(String key) {
+        return BY_KEY.get(key.toLowerCase());
+    }
+}
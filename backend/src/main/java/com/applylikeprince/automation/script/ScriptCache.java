@@ -0,0 +1,60 @@
+package com.applylikeprince.automation.script;
+
+import com.applylikeprince.automation.SubmissionContext;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Parsed plans per platform, re-parsed only when the platform row changes
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScriptCache {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Long, Entry> plans = new ConcurrentHashMap<>();
+
+    private record Entry(LocalDateTime updatedAt, String script, String fieldMappings, ScriptPlan plan) {
+
+        boolean matches(SubmissionContext context) {
+            return Objects.equals(updatedAt, context.platformUpdatedAt())
+                    && script.equals(context.platformScript())
+                    && Objects.equals(fieldMappings, context.platformFieldMappings());
+        }
+    }
+
+    public ScriptPlan planFor(SubmissionContext context) {
+        Entry cached = plans.get(context.platformId());
+        if (cached != null && cached.matches(context)) {
+            meterRegistry.counter("automation.script.cache", "result", "hit").increment();
+            return cached.plan();
+        }
+
+        meterRegistry.counter("automation.script.cache", "result", "miss").increment();
+        ScriptPlan plan = ScriptParser.parse(context.platformScript(), fieldMappings(context.platformFieldMappings()));
+        plans.put(context.platformId(), new Entry(context.platformUpdatedAt(), context.platformScript(),
+                context.platformFieldMappings(), plan));
+        log.info("Compiled automation script for platform {} ({} steps)", context.platformName(), plan.steps().size());
+        return plan;
+    }
+
+    private Map<String, String> fieldMappings(String json) {
+        if (json == null || json.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid platform field mappings: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.applylikeprince.automation.script;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * One step per line, '#' starts a comment. Selectors are quoted CSS, or a bare key looked up in
+ * Platform.fieldMappings ({"email": "#applicant-email"}).
+ *
+ *   navigate "{jobUrl}"
+ *   wait-for "form#apply" 10s
+ *   fill email email
+ *   fill "textarea[name=cover]" coverLetter optional
+ *   upload "input[type=file]" resume
+ *   click "button[type=submit]"
+ *   assert "#confirmation"
+ *   assert text "Application received"
+ */
+public final class ScriptParser {
+
+    private static final Duration DEFAULT_WAIT = Duration.ofSeconds(10);
+    private static final Pattern TOKEN = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+    private static final Pattern SHORT_DURATION = Pattern.compile("(\\d+)(ms|s|m)");
+
+    private ScriptParser() {
+    }
+
+    public static ScriptPlan parse(String script, Map<String, String> fieldMappings) {
+        List<ScriptStep> steps = new ArrayList<>();
+        String[] lines = script.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            int lineNumber = i + 1;
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            steps.add(parseLine(lineNumber, tokenize(line), fieldMappings));
+        }
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Automation script has no steps");
+        }
+        return new ScriptPlan(steps);
+    }
+
+    private static ScriptStep parseLine(int line, List<String> tokens, Map<String, String> mappings) {
+        String command = tokens.get(0).toLowerCase();
+        List<String> args = tokens.subList(1, tokens.size());
+        return switch (command) {
+            case "navigate" -> {
+                expect(line, command, args, 1, 1);
+                yield new ScriptStep.Navigate(line, urlTemplate(line, args.get(0)));
+            }
+            case "wait-for" -> {
+                expect(line, command, args, 1, 2);
+                Duration timeout = args.size() > 1 ? duration(line, args.get(1)) : DEFAULT_WAIT;
+                yield new ScriptStep.WaitFor(line, selector(args.get(0), mappings), timeout);
+            }
+            case "fill" -> {
+                expect(line, command, args, 2, 3);
+                yield new ScriptStep.Fill(line, selector(args.get(0), mappings), attribute(line, args.get(1)),
+                        optional(line, args));
+            }
+            case "upload" -> {
+                expect(line, command, args, 2, 3);
+                yield new ScriptStep.Upload(line, selector(args.get(0), mappings), attribute(line, args.get(1)),
+                        optional(line, args));
+            }
+            case "click" -> {
+                expect(line, command, args, 1, 1);
+                yield new ScriptStep.Click(line, selector(args.get(0), mappings));
+            }
+            case "assert" -> {
+                expect(line, command, args, 1, 2);
+                yield args.size() == 2 && args.get(0).equals("text")
+                        ? new ScriptStep.AssertText(line, args.get(1))
+                        : new ScriptStep.AssertPresent(line, selector(args.get(0), mappings));
+            }
+            default -> throw error(line, "unknown command '" + command + "'");
+        };
+    }
+
+    private static List<String> tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(line);
+        while (matcher.find()) {
+            tokens.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+        }
+        return tokens;
+    }
+
+    private static void expect(int line, String command, List<String> args, int min, int max) {
+        if (args.size() < min || args.size() > max) {
+            throw error(line, "'" + command + "' takes " + (min == max ? min : min + "-" + max)
+                    + " argument(s), got " + args.size());
+        }
+    }
+
+    private static String selector(String token, Map<String, String> mappings) {
+        return mappings.getOrDefault(token, token);
+    }
+
+    private static ScriptAttribute attribute(int line, String key) {
+        ScriptAttribute attribute = ScriptAttribute.fromKey(key);
+        if (attribute == null) {
+            throw error(line, "unknown attribute '" + key + "'");
+        }
+        return attribute;
+    }
+
+    private static boolean optional(int line, List<String> args) {
+        if (args.size() < 3) {
+            return false;
+        }
+        if (!args.get(2).equals("optional")) {
+            throw error(line, "expected 'optional', got '" + args.get(2) + "'");
+        }
+        return true;
+    }
+
+    private static String urlTemplate(int line, String url) {
+        // A bare attribute name navigates to that value, e.g. "navigate jobUrl"
+        if (ScriptAttribute.fromKey(url) != null) {
+            return "{" + url + "}";
+        }
+        Matcher matcher = PLACEHOLDER.matcher(url);
+        while (matcher.find()) {
+            attribute(line, matcher.group(1));
+        }
+        return url;
+    }
+
+    private static Duration duration(int line, String value) {
+        Matcher matcher = SHORT_DURATION.matcher(value);
+        if (matcher.matches()) {
+            long amount = Long.parseLong(matcher.group(1));
+            return switch (matcher.group(2)) {
+                case "ms" -> Duration.ofMillis(amount);
+                case "s" -> Duration.ofSeconds(amount);
+                default -> Duration.ofMinutes(amount);
+            };
+        }
+        try {
+            return Duration.parse(value);
+        } catch (Exception e) {
+            throw error(line, "invalid timeout '" + value + "'");
+        }
+    }
+
+    private static IllegalArgumentException error(int line, String message) {
+        return new IllegalArgumentException("Automation script line " + line + ": " + message);
+    }
+}
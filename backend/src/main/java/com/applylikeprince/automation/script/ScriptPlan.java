@@ -0,0 +1,10 @@
+package com.applylikeprince.automation.script;
+
+import java.util.List;
+
+public record ScriptPlan(List<ScriptStep> steps) {
+
+    public ScriptPlan {
+        steps = List.copyOf(steps);
+    }
+}
@@ -0,0 +1,92 @@
+package com.applylikeprince.automation.script;
+
+import com.applylikeprince.automation.AutomationSession;
+import com.applylikeprince.automation.SubmissionContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public sealed interface ScriptStep {
+
+    int line();
+
+    void execute(AutomationSession session, SubmissionContext context);
+
+    record Navigate(int line, String urlTemplate) implements ScriptStep {
+
+        private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            Matcher matcher = PLACEHOLDER.matcher(urlTemplate);
+            StringBuilder url = new StringBuilder();
+            while (matcher.find()) {
+                String value = ScriptAttribute.fromKey(matcher.group(1)).read(context);
+                if (value == null || value.isEmpty()) {
+                    throw new IllegalStateException("Script line " + line + ": {" + matcher.group(1) + "} is empty");
+                }
+                matcher.appendReplacement(url, Matcher.quoteReplacement(value));
+            }
+            matcher.appendTail(url);
+            session.open(url.toString());
+        }
+    }
+
+    record WaitFor(int line, String selector, Duration timeout) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            session.waitFor(selector, timeout);
+        }
+    }
+
+    record Fill(int line, String selector, ScriptAttribute attribute, boolean optional) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            String value = attribute.read(context);
+            if (value == null || (optional && !session.exists(selector))) {
+                return;
+            }
+            session.fill(selector, value);
+        }
+    }
+
+    record Upload(int line, String selector, ScriptAttribute attribute, boolean optional) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            String file = attribute.read(context);
+            if (file == null || (optional && !session.exists(selector))) {
+                return;
+            }
+            session.upload(selector, Path.of(file));
+        }
+    }
+
+    record Click(int line, String selector) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            session.click(selector);
+        }
+    }
+
+    record AssertPresent(int line, String selector) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            if (!session.exists(selector)) {
+                throw new IllegalStateException("Script line " + line + ": expected '" + selector + "' on "
+                        + session.currentUrl());
+            }
+        }
+    }
+
+    record AssertText(int line, String text) implements ScriptStep {
+        @Override
+        public void execute(AutomationSession session, SubmissionContext context) {
+            if (!session.pageSource().contains(text)) {
+                throw new IllegalStateException("Script line " + line + ": expected text '" + text + "' on "
+                        + session.currentUrl());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.applylikeprince.automation.script;
+
+import com.applylikeprince.automation.AutomationSession;
+import com.applylikeprince.automation.PlatformCapabilities;
+import com.applylikeprince.automation.PlatformHandler;
+import com.applylikeprince.automation.SubmissionContext;
+import lombok.extern.slf4j.Slf4j;
+
+// Runs a Platform.automationScript plan; login detection and capabilities come from the code handler
+@Slf4j
+public class ScriptedPlatformHandler implements PlatformHandler {
+
+    private final ScriptPlan plan;
+    private final PlatformHandler base;
+
+    public ScriptedPlatformHandler(ScriptPlan plan, PlatformHandler base) {
+        this.plan = plan;
+        this.base = base;
+    }
+
+    @Override
+    public String platformName() {
+        return base.platformName();
+    }
+
+    @Override
+    public PlatformCapabilities capabilities() {
+        return base.capabilities();
+    }
+
+    @Override
+    public String apply(AutomationSession session, SubmissionContext context) {
+        log.info("Running {}-step automation script for {} ({} engine)",
+                plan.steps().size(), context.platformDisplayName(), session.engine());
+        for (ScriptStep step : plan.steps()) {
+            step.execute(session, context);
+        }
+        return context.toSubmissionData();
+    }
+
+    @Override
+    public boolean isLoggedIn(AutomationSession session) {
+        return base.isLoggedIn(session);
+    }
+
+    @Override
+    public boolean login(AutomationSession session, SubmissionContext context) {
+        return base.login(session, context);
+    }
+}
@@ -0,0 +1,32 @@
+package com.applylikeprince.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.admission")
+@Data
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    // Applications queued or running (PENDING + IN_PROGRESS) across the cluster
+    private int maxInFlight = 200;
+
+    private int maxInFlightPerUser = 25;
+
+    // Share of maxInFlight each priority may fill; lower priorities are shed first
+    private Map<String, Double> shedThresholds = new HashMap<>(Map.of(
+            "LOW", 0.5,
+            "NORMAL", 0.9,
+            "HIGH", 1.0));
+
+    private Duration drainSampleInterval = Duration.ofSeconds(5);
+    private Duration minRetryAfter = Duration.ofSeconds(1);
+    private Duration maxRetryAfter = Duration.ofMinutes(5);
+}
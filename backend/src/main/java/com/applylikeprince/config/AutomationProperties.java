@@ -0,0 +1,138 @@
+package com.applylikeprince.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.automation")
+@Data
+public class AutomationProperties {
+
+    private boolean headless = true;
+
+    private Pool pool = new Pool();
+
+    private Queue queue = new Queue();
+
+    private Throttle throttle = new Throttle();
+
+    private Retry retry = new Retry();
+
+    private Resources resources = new Resources();
+
+    private Sessions sessions = new Sessions();
+
+    private Artifacts artifacts = new Artifacts();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Watchdog watchdog = new Watchdog();
+
+    @Data
+    public static class Pool {
+        private int minSize = 0;
+        private int maxSize = 4;
+        private Duration idleTimeout = Duration.ofMinutes(5);
+        private Duration borrowTimeout = Duration.ofSeconds(60);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        private int maxUsesPerBrowser = 50;
+    }
+
+    @Data
+    public static class Queue {
+        private int workers = 4;
+        private int perRequestConcurrency = 3;
+        private Duration pollInterval = Duration.ofSeconds(2);
+        private Duration leaseDuration = Duration.ofMinutes(10);
+        private int fetchPerUser = 8;
+    }
+
+    @Data
+    public static class Throttle {
+        private Limits defaults = new Limits();
+        private Map<String, Limits> platforms = new HashMap<>();
+    }
+
+    @Data
+    public static class Limits {
+        private double requestsPerMinute = 30;
+        private int burst = 5;
+        private int maxConcurrent = 2;
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 5;
+        private Duration baseDelay = Duration.ofMinutes(1);
+        private Duration maxDelay = Duration.ofHours(1);
+        private Duration interval = Duration.ofSeconds(30);
+        private int batchSize = 200;
+        private int maxBatchesPerRun = 10;
+    }
+
+    @Data
+    public static class Resources {
+        private boolean blockImages = true;
+        private String pageLoadStrategy = "eager";
+        private List<String> blockedUrls = new ArrayList<>(List.of(
+                "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg", "*.ico",
+                "*.woff", "*.woff2", "*.ttf", "*.otf",
+                "*.mp4", "*.webm", "*.mp3",
+                "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                "*connect.facebook.net*", "*hotjar.com*", "*segment.io*", "*clarity.ms*"));
+        private Map<String, UrlRules> platforms = new HashMap<>();
+    }
+
+    @Data
+    public static class UrlRules {
+        private List<String> allow = new ArrayList<>();
+        private List<String> deny = new ArrayList<>();
+    }
+
+    @Data
+    public static class Artifacts {
+        private boolean enabled = true;
+        private int queueCapacity = 32;
+        private int maxFiles = 500;
+        private Duration maxAge = Duration.ofDays(7);
+        private Duration pruneInterval = Duration.ofHours(1);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private int windowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 0.8;
+        private Duration slowCallDuration = Duration.ofSeconds(90);
+        private Duration openDuration = Duration.ofMinutes(2);
+        private int halfOpenProbes = 2;
+    }
+
+    @Data
+    public static class Watchdog {
+        private Duration deadline = Duration.ofMinutes(5);
+        private Map<String, Duration> platforms = new HashMap<>();
+        private Duration interval = Duration.ofSeconds(10);
+        private Duration pageLoadTimeout = Duration.ofSeconds(60);
+        private Duration scriptTimeout = Duration.ofSeconds(30);
+        private Duration commandTimeout = Duration.ofSeconds(90);
+        private boolean killOrphans = true;
+        private Duration orphanGrace = Duration.ofMinutes(2);
+    }
+
+    @Data
+    public static class Sessions {
+        private boolean enabled = true;
+        private String secret = "change-me-session-store-secret";
+        private Duration maxAge = Duration.ofDays(14);
+    }
+}
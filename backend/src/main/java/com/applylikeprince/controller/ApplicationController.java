@@ -2,28 +2,126 @@ package com.applylikeprince.controller;
 
 import com.applylikeprince.dto.ApplicationDTO;
 import com.applylikeprince.dto.ApplyRequest;
+import com.applylikeprince.dto.BulkJobItem;
 import com.applylikeprince.dto.DashboardStats;
 import com.applylikeprince.service.ApplicationService;
+import com.applylikeprince.service.BulkApplyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/applications")
 @RequiredArgsConstructor
+@Slf4j
 public class ApplicationController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ApplicationService applicationService;
+    private final BulkApplyService bulkApplyService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/apply")
-    public ResponseEntity<List<ApplicationDTO>> applyToJobs(@Valid @RequestBody ApplyRequest request) {
-        List<ApplicationDTO> applications = applicationService.applyToJobs(request);
-        return ResponseEntity.ok(applications);
+    public ResponseEntity<List<ApplicationDTO>> applyToJobs(
+            @Valid @RequestBody ApplyRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        List<ApplicationDTO> applications = applicationService.applyToJobs(request, idempotencyKey);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(applications);
+    }
+
+    // Body is a JSON array of postings or a CSV with a header row; progress streams back as NDJSON or SSE
+    @PostMapping(value = "/bulk-apply", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public ResponseEntity<StreamingResponseBody> bulkApply(
+            @RequestParam(required = false) Long resumeId,
+            @RequestParam List<Long> platformIds,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) Boolean generateCoverLetter,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request) {
+        BulkApplyService.BulkBatch batch = bulkApplyService.prepare(resumeId, platformIds, priority, generateCoverLetter);
+        boolean csv = request.getContentType() != null && request.getContentType().startsWith("text/csv");
+        return bulkResponse(accept, sink -> {
+            InputStream body = request.getInputStream();
+            Iterator<BulkJobItem> items = csv ? bulkApplyService.csvItems(body) : bulkApplyService.jsonItems(body);
+            bulkApplyService.enqueueAndFollow(batch, items, sink);
+        });
+    }
+
+    @PostMapping(value = "/bulk-apply", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkApplyUpload(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Long resumeId,
+            @RequestParam List<Long> platformIds,
+            @RequestParam(required = false) String priority,
+            @RequestParam(required = false) Boolean generateCoverLetter,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        BulkApplyService.BulkBatch batch = bulkApplyService.prepare(resumeId, platformIds, priority, generateCoverLetter);
+        boolean json = file.getOriginalFilename() != null && file.getOriginalFilename().endsWith(".json");
+        return bulkResponse(accept, sink -> {
+            try (InputStream body = file.getInputStream()) {
+                Iterator<BulkJobItem> items = json ? bulkApplyService.jsonItems(body) : bulkApplyService.csvItems(body);
+                bulkApplyService.enqueueAndFollow(batch, items, sink);
+            }
+        });
+    }
+
+    @GetMapping("/bulk-apply/{batchId}/events")
+    public ResponseEntity<StreamingResponseBody> followBulk(
+            @PathVariable String batchId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String owned = bulkApplyService.ownedBatch(batchId);
+        return bulkResponse(accept, sink -> bulkApplyService.follow(owned, sink, bulkApplyService.newDeadline()));
+    }
+
+    @FunctionalInterface
+    private interface BulkWork {
+        void run(BulkApplyService.EventSink sink) throws IOException;
+    }
+
+    private ResponseEntity<StreamingResponseBody> bulkResponse(String accept, BulkWork work) {
+        boolean sse = accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+        StreamingResponseBody body = out -> {
+            BulkApplyService.EventSink sink = (type, data) -> writeEvent(out, sse, type, data);
+            try {
+                work.run(sink);
+            } catch (IOException e) {
+                // Client went away; the queued applications keep running
+                log.debug("Bulk apply stream closed: {}", e.getMessage());
+            } catch (RuntimeException e) {
+                writeEvent(out, sse, "error", Map.of("message", String.valueOf(e.getMessage())));
+            }
+        };
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : NDJSON)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(body);
+    }
+
+    private void writeEvent(OutputStream out, boolean sse, String type, Map<String, Object> data) throws IOException {
+        String json = objectMapper.writeValueAsString(Map.of("type", type, "data", data));
+        String frame = sse ? "event: " + type + "\ndata: " + json + "\n\n" : json + "\n";
+        out.write(frame.getBytes(StandardCharsets.UTF_8));
+        out.flush();
     }
 
     @GetMapping
@@ -34,6 +132,11 @@ public class ApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents() {
+        return applicationService.streamEvents();
+    }
+
     @GetMapping("/recent")
     public ResponseEntity<List<ApplicationDTO>> getRecentApplications() {
         List<ApplicationDTO> applications = applicationService.getRecentApplications();
@@ -52,6 +155,11 @@ public class ApplicationController {
         return ResponseEntity.ok(application);
     }
 
+    @PostMapping(value = "/{id}/cover-letter/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCoverLetter(@PathVariable Long id) {
+        return applicationService.streamCoverLetter(id);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApplicationDTO> updateApplicationStatus(
             @PathVariable Long id,
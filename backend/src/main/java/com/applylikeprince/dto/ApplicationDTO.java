@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 public class ApplicationDTO {
 
     private Long id;
+    private String batchId;
     private Long platformId;
     private String platformName;
     private Long resumeId;
@@ -23,6 +24,7 @@ public class ApplicationDTO {
     private String jobUrl;
     private String location;
     private String status;
+    private String priority;
     private String coverLetter;
     private LocalDateTime appliedAt;
     private LocalDateTime createdAt;
@@ -30,6 +32,7 @@ public class ApplicationDTO {
     public static ApplicationDTO fromEntity(JobApplication application) {
         return ApplicationDTO.builder()
                 .id(application.getId())
+                .batchId(application.getBatchId())
                 .platformId(application.getPlatform().getId())
                 .platformName(application.getPlatform().getDisplayName())
                 .resumeId(application.getResume() != null ? application.getResume().getId() : null)
@@ -38,6 +41,7 @@ public class ApplicationDTO {
                 .jobUrl(application.getJobUrl())
                 .location(application.getLocation())
                 .status(application.getStatus().name())
+                .priority(application.getPriority() != null ? application.getPriority().name() : null)
                 .coverLetter(application.getCoverLetter())
                 .appliedAt(application.getAppliedAt())
                 .createdAt(application.getCreatedAt())
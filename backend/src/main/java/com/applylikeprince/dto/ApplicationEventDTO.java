@@ -0,0 +1,50 @@
+package com.applylikeprince.dto;
+
+import com.applylikeprince.entity.ApplicationLog;
+import com.applylikeprince.entity.JobApplication;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationEventDTO {
+
+    private Long logId;
+    private Long applicationId;
+    private String batchId;
+    private String status;
+    private String action;
+    private String level;
+    private String details;
+    private String errorMessage;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime timestamp;
+
+    // Routing key for the event bus, not part of the payload
+    @JsonIgnore
+    private Long userId;
+
+    public static ApplicationEventDTO fromLog(ApplicationLog log) {
+        JobApplication application = log.getApplication();
+        return ApplicationEventDTO.builder()
+                .logId(log.getId())
+                .applicationId(application.getId())
+                .batchId(application.getBatchId())
+                .status(application.getStatus().name())
+                .action(log.getAction().name())
+                .level(log.getLevel() != null ? log.getLevel().name() : null)
+                .details(log.getDetails())
+                .errorMessage(application.getErrorMessage())
+                .nextAttemptAt(application.getNextAttemptAt())
+                .timestamp(log.getTimestamp() != null ? log.getTimestamp() : LocalDateTime.now())
+                .userId(application.getUser().getId())
+                .build();
+    }
+}
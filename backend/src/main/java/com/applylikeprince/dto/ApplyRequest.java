@@ -27,4 +27,5 @@ public class ApplyRequest {
     private String location;
     private String customCoverLetter;
     private Boolean generateCoverLetter;
+    private String priority;
 }
@@ -0,0 +1,19 @@
+package com.applylikeprince.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkJobItem {
+
+    private String jobUrl;
+    private String jobTitle;
+    private String company;
+    private String location;
+    private String jobDescription;
+}
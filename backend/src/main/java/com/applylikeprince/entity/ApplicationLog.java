@@ -32,6 +32,13 @@ public class ApplicationLog {
     @Enumerated(EnumType.STRING)
     private LogLevel level;
 
+    // Per-phase breakdown of the attempt, e.g. "throttle=12ms page_load=840ms total=1402ms"
+    @Column(columnDefinition = "TEXT")
+    private String timings;
+
+    // Zip with screenshot, page source and console log, relative to the upload directory
+    private String artifactPath;
+
     private String ipAddress;
 
     private String userAgent;
@@ -10,7 +10,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+        @Index(name = "idx_job_applications_status_lease", columnList = "status, lease_expires_at"),
+        @Index(name = "idx_job_applications_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_job_applications_user_status", columnList = "user_id, status, created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_applications_idempotency_key", columnNames = "idempotency_key")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -33,6 +39,12 @@ public class JobApplication {
     @JoinColumn(name = "resume_id")
     private Resume resume;
 
+    private String batchId;
+
+    // SHA-256 of user, platform and the client's Idempotency-Key or the normalized job URL
+    @Column(length = 64)
+    private String idempotencyKey;
+
     private String jobTitle;
 
     private String company;
@@ -48,9 +60,16 @@ public class JobApplication {
     @Builder.Default
     private ApplicationStatus status = ApplicationStatus.PENDING;
 
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private Priority priority = Priority.NORMAL;
+
     @Column(columnDefinition = "TEXT")
     private String coverLetter;
 
+    @Builder.Default
+    private Boolean generateCoverLetter = false;
+
     @Column(columnDefinition = "TEXT")
     private String submittedData;
 
@@ -63,6 +82,12 @@ public class JobApplication {
 
     private LocalDateTime lastAttemptAt;
 
+    private LocalDateTime nextAttemptAt;
+
+    private String leaseOwner;
+
+    private LocalDateTime leaseExpiresAt;
+
     @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<ApplicationLog> logs = new ArrayList<>();
@@ -76,4 +101,19 @@ public class JobApplication {
     public enum ApplicationStatus {
         PENDING, IN_PROGRESS, SUBMITTED, FAILED, VIEWED, INTERVIEW_SCHEDULED, REJECTED, OFFER_RECEIVED
     }
+
+    public enum Priority {
+        LOW, NORMAL, HIGH;
+
+        public static Priority from(String value) {
+            if (value == null || value.isBlank()) {
+                return NORMAL;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid priority: " + value);
+            }
+        }
+    }
 }
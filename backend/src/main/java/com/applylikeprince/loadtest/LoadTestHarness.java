@@ -0,0 +1,178 @@
+package com.applylikeprince.loadtest;
+
+import com.applylikeprince.automation.PhaseTimings;
+import com.applylikeprince.automation.SubmissionContext;
+import com.applylikeprince.service.AutomationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+// Drives N applications through AutomationService against the stub board and reports throughput,
+// latency percentiles and Chrome memory. Run with --spring.profiles.active=loadtest
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestHarness implements ApplicationRunner {
+
+    private final LoadTestProperties properties;
+    private final StubJobBoard stubJobBoard;
+    private final AutomationService automationService;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String baseUrl = stubJobBoard.start();
+        Path resume = Files.createTempFile("loadtest-resume", ".pdf");
+        Files.writeString(resume, "%PDF-1.4 load test resume");
+
+        int total = properties.getApplications();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(total));
+        Map<PhaseTimings.Phase, AtomicLong> phaseNanos = new EnumMap<>(PhaseTimings.Phase.class);
+        for (PhaseTimings.Phase phase : PhaseTimings.Phase.values()) {
+            phaseNanos.put(phase, new AtomicLong());
+        }
+        Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+        LongAccumulator peakRss = new LongAccumulator(Math::max, 0);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakRss.accumulate(chromeRssKb()), 0, 1, TimeUnit.SECONDS);
+
+        log.info("Load test: {} applications, concurrency {}, latency {}, failure rate {}",
+                total, properties.getConcurrency(), properties.getLatency(), properties.getFailureRate());
+
+        Semaphore concurrency = new Semaphore(properties.getConcurrency());
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < total; i++) {
+                SubmissionContext context = context(i, baseUrl, resume);
+                concurrency.acquire();
+                executor.submit(() -> {
+                    PhaseTimings timings = new PhaseTimings();
+                    try {
+                        automationService.submitApplication(context, timings);
+                        latencies.add(timings.totalNanos());
+                    } catch (Exception e) {
+                        Throwable root = e;
+                        while (root.getCause() != null) {
+                            root = root.getCause();
+                        }
+                        errors.computeIfAbsent(root.getClass().getSimpleName(), k -> new AtomicLong()).incrementAndGet();
+                    } finally {
+                        timings.snapshot().forEach((phase, nanos) -> phaseNanos.get(phase).addAndGet(nanos));
+                        concurrency.release();
+                    }
+                });
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        sampler.shutdownNow();
+        peakRss.accumulate(chromeRssKb());
+        Files.deleteIfExists(resume);
+
+        report(total, elapsedNanos, latencies, phaseNanos, errors, peakRss.get());
+
+        if (properties.isExitOnFinish()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> errors.isEmpty() ? 0 : 1));
+        }
+    }
+
+    private SubmissionContext context(int index, String baseUrl, Path resume) {
+        return SubmissionContext.builder()
+                .userId((long) (index % 10) + 1)
+                .platformName("stubboard")
+                .platformDisplayName("Stub Board")
+                .platformBaseUrl(baseUrl)
+                .jobTitle("Engineer " + index)
+                .company("Stub Co")
+                .jobUrl(baseUrl + "/jobs/" + (index % 20 + 1))
+                .location("Remote")
+                .coverLetter("Load test cover letter " + index)
+                .resumeFilePath(resume.toString())
+                .candidateName("Load Tester")
+                .candidateEmail("load" + index + "@example.com")
+                .candidatePhone("+10000000000")
+                .candidateSkills("Java, Selenium")
+                .build();
+    }
+
+    private void report(int total, long elapsedNanos, List<Long> latencies,
+            Map<PhaseTimings.Phase, AtomicLong> phaseNanos, Map<String, AtomicLong> errors, long peakRssKb) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+
+        StringBuilder sb = new StringBuilder("\n=== Load Test Report ===\n");
+        sb.append("Applications: ").append(total)
+                .append(" (ok ").append(sorted.size())
+                .append(", failed ").append(total - sorted.size())
+                .append(", confirmed by stub ").append(stubJobBoard.submissions()).append(")\n");
+        sb.append(String.format("Elapsed: %.1fs, throughput: %.2f applications/s%n", seconds, sorted.size() / seconds));
+        sb.append(String.format("Latency p50: %dms, p99: %dms, max: %dms%n",
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), percentileMillis(sorted, 1.0)));
+        sb.append("Mean time per phase:");
+        phaseNanos.forEach((phase, nanos) -> {
+            if (nanos.get() > 0) {
+                sb.append(' ').append(phase.tag()).append('=')
+                        .append(TimeUnit.NANOSECONDS.toMillis(nanos.get() / total)).append("ms");
+            }
+        });
+        sb.append('\n');
+        sb.append("Peak Chrome RSS: ").append(peakRssKb / 1024).append(" MB\n");
+        if (!errors.isEmpty()) {
+            sb.append("Errors: ").append(errors).append('\n');
+        }
+        log.info(sb.toString());
+    }
+
+    private long percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))));
+    }
+
+    // Resident memory of every chrome/chromedriver process, from /proc (Linux only)
+    private long chromeRssKb() {
+        return ProcessHandle.allProcesses()
+                .filter(process -> process.info().command().map(cmd -> cmd.contains("chrom")).orElse(false))
+                .mapToLong(process -> rssKb(process.pid()))
+                .sum();
+    }
+
+    private long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited between listing and reading
+        }
+        return 0;
+    }
+}
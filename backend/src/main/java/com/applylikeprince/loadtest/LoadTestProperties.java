@@ -0,0 +1,28 @@
+package com.applylikeprince.loadtest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("loadtest")
+@ConfigurationProperties(prefix = "app.loadtest")
+@Data
+public class LoadTestProperties {
+
+    private int applications = 50;
+    private int concurrency = 8;
+
+    // Port 0 picks a free ephemeral port
+    private int port = 0;
+    private Duration latency = Duration.ofMillis(150);
+    private double failureRate = 0.0;
+
+    // Render the apply form from script so the HTML engine escalates and Chrome is exercised
+    private boolean scriptedForms = true;
+
+    private boolean exitOnFinish = true;
+}
@@ -0,0 +1,162 @@
+package com.applylikeprince.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Minimal job board on loopback: login, listing and apply pages with injectable latency and failures
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class StubJobBoard {
+
+    private static final String APPLY_FORM = """
+            <form method="post" action="/jobs/%d/apply" enctype="multipart/form-data">
+              <input type="text" name="full_name">
+              <input type="email" name="email">
+              <input type="tel" name="phone">
+              <textarea name="cover_letter"></textarea>
+              <input type="file" name="resume">
+              <button type="submit">Apply</button>
+            </form>
+            """;
+
+    private final LoadTestProperties properties;
+    private final AtomicLong submissions = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public synchronized String start() throws IOException {
+        if (server == null) {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), 0);
+            server.setExecutor(executor);
+            server.createContext("/login", this::login);
+            server.createContext("/jobs", this::jobs);
+            server.start();
+            log.info("Stub job board listening on {}", baseUrl());
+        }
+        return baseUrl();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long submissions() {
+        return submissions.get();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    private void login(HttpExchange exchange) throws IOException {
+        if (!simulate(exchange)) {
+            return;
+        }
+        if ("POST".equals(exchange.getRequestMethod())) {
+            drain(exchange);
+            exchange.getResponseHeaders().add("Set-Cookie", "stub_session=" + System.nanoTime() + "; Path=/");
+            exchange.getResponseHeaders().add("Location", "/jobs");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+            return;
+        }
+        html(exchange, 200, """
+                <form method="post" action="/login">
+                  <input type="text" name="username"><input type="password" name="password">
+                  <button type="submit">Sign in</button>
+                </form>
+                """);
+    }
+
+    private void jobs(HttpExchange exchange) throws IOException {
+        if (!simulate(exchange)) {
+            return;
+        }
+        // /jobs, /jobs/{id} or /jobs/{id}/apply
+        String[] parts = exchange.getRequestURI().getPath().split("/");
+        if (parts.length < 3) {
+            StringBuilder listing = new StringBuilder("<ul>");
+            for (int id = 1; id <= 20; id++) {
+                listing.append("<li><a href=\"/jobs/").append(id).append("\">Job ").append(id).append("</a></li>");
+            }
+            html(exchange, 200, listing.append("</ul>").toString());
+            return;
+        }
+
+        long jobId;
+        try {
+            jobId = Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            html(exchange, 404, "<h1>Not found</h1>");
+            return;
+        }
+
+        if (parts.length > 3 && "apply".equals(parts[3]) && "POST".equals(exchange.getRequestMethod())) {
+            drain(exchange);
+            submissions.incrementAndGet();
+            html(exchange, 200, "<h1 id=\"confirmation\">Application received for job " + jobId + "</h1>");
+            return;
+        }
+
+        String form = APPLY_FORM.formatted(jobId);
+        String body = properties.isScriptedForms()
+                ? "<div id=\"app\"></div><script>document.getElementById('app').innerHTML = `" + form + "`;</script>"
+                : form;
+        html(exchange, 200, "<h1>Job " + jobId + "</h1>" + body);
+    }
+
+    // Applies the configured latency and failure rate; returns false when the request was failed
+    private boolean simulate(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(properties.getLatency().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ThreadLocalRandom.current().nextDouble() < properties.getFailureRate()) {
+            drain(exchange);
+            html(exchange, 503, "<h1>Service unavailable</h1>");
+            return false;
+        }
+        return true;
+    }
+
+    private void html(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = ("<!doctype html><html><body>" + body + "</body></html>").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
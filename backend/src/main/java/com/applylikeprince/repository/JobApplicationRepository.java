@@ -3,12 +3,16 @@ package com.applylikeprince.repository;
 import com.applylikeprince.entity.JobApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +36,124 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
             @Param("startDate") LocalDateTime startDate);
 
     List<JobApplication> findTop10ByUserIdOrderByCreatedAtDesc(Long userId);
+
+    @Query("SELECT a FROM JobApplication a JOIN FETCH a.platform LEFT JOIN FETCH a.resume WHERE a.id = :id")
+    Optional<JobApplication> findWithDetailsById(@Param("id") Long id);
+
+    Optional<JobApplication> findByIdempotencyKey(String idempotencyKey);
+
+    long countByStatusIn(Collection<JobApplication.ApplicationStatus> statuses);
+
+    long countByUserIdAndStatusIn(Long userId, Collection<JobApplication.ApplicationStatus> statuses);
+
+    @Query("SELECT a.idempotencyKey FROM JobApplication a WHERE a.idempotencyKey IS NOT NULL ORDER BY a.id")
+    Slice<String> findIdempotencyKeys(Pageable pageable);
+
+    // Each user's first perUser claimable rows in one round trip. paused holds platform names whose
+    // circuit is open; pass a non-empty placeholder when none are
+    @Query("SELECT c.id AS id, c.batchId AS batchId, c.userId AS userId, c.priority AS priority, " +
+            "c.platformName AS platformName, c.createdAt AS createdAt FROM (" +
+            "SELECT a.id AS id, a.batchId AS batchId, a.user.id AS userId, a.priority AS priority, " +
+            "a.platform.name AS platformName, a.createdAt AS createdAt, ROW_NUMBER() OVER (" +
+            "PARTITION BY a.user.id ORDER BY CASE WHEN a.priority = :high THEN 0 " +
+            "WHEN a.priority = :low THEN 2 ELSE 1 END, a.createdAt) AS rn " +
+            "FROM JobApplication a WHERE a.platform.name NOT IN :paused AND (a.status = :pending " +
+            "OR (a.status = :inProgress AND (a.leaseExpiresAt IS NULL OR a.leaseExpiresAt < :now)))) c " +
+            "WHERE c.rn <= :perUser ORDER BY c.userId, c.rn")
+    List<ClaimCandidate> findClaimCandidates(@Param("pending") JobApplication.ApplicationStatus pending,
+            @Param("inProgress") JobApplication.ApplicationStatus inProgress,
+            @Param("now") LocalDateTime now,
+            @Param("paused") Collection<String> paused,
+            @Param("perUser") long perUser,
+            @Param("high") JobApplication.Priority high,
+            @Param("low") JobApplication.Priority low);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobApplication a SET a.status = :inProgress, a.leaseOwner = :owner, a.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE a.id = :id AND (a.status = :pending " +
+            "OR (a.status = :inProgress AND (a.leaseExpiresAt IS NULL OR a.leaseExpiresAt < :now)))")
+    int claim(@Param("id") Long id,
+            @Param("owner") String owner,
+            @Param("pending") JobApplication.ApplicationStatus pending,
+            @Param("inProgress") JobApplication.ApplicationStatus inProgress,
+            @Param("now") LocalDateTime now,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // Only while no worker holds the row, so a letter a worker already sent is never replaced
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobApplication a SET a.coverLetter = :coverLetter " +
+            "WHERE a.id = :id AND a.status IN :editable AND a.leaseOwner IS NULL")
+    int updateCoverLetterIfIdle(@Param("id") Long id,
+            @Param("coverLetter") String coverLetter,
+            @Param("editable") Collection<JobApplication.ApplicationStatus> editable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobApplication a SET a.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE a.id IN :ids AND a.leaseOwner = :owner AND a.status = :inProgress")
+    int renewLeases(@Param("ids") Collection<Long> ids,
+            @Param("owner") String owner,
+            @Param("inProgress") JobApplication.ApplicationStatus inProgress,
+            @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    boolean existsByBatchIdAndUserId(String batchId, Long userId);
+
+    // Keyset over (updatedAt, id); the upper bound lags a little so rows still committing are not skipped
+    @Query("SELECT a.id AS id, a.platform.id AS platformId, a.jobUrl AS jobUrl, a.status AS status, " +
+            "a.errorMessage AS errorMessage, a.nextAttemptAt AS nextAttemptAt, a.updatedAt AS updatedAt " +
+            "FROM JobApplication a WHERE a.batchId = :batchId AND a.updatedAt <= :upTo " +
+            "AND (a.updatedAt > :afterTime OR (a.updatedAt = :afterTime AND a.id > :afterId)) " +
+            "ORDER BY a.updatedAt, a.id")
+    List<BatchUpdate> findBatchUpdates(@Param("batchId") String batchId,
+            @Param("afterTime") LocalDateTime afterTime,
+            @Param("afterId") Long afterId,
+            @Param("upTo") LocalDateTime upTo,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(a) FROM JobApplication a WHERE a.batchId = :batchId AND (a.status IN :active " +
+            "OR (a.status = :failed AND a.nextAttemptAt IS NOT NULL))")
+    long countOutstandingInBatch(@Param("batchId") String batchId,
+            @Param("active") Collection<JobApplication.ApplicationStatus> active,
+            @Param("failed") JobApplication.ApplicationStatus failed);
+
+    @Query("SELECT a.status, COUNT(a) FROM JobApplication a WHERE a.batchId = :batchId GROUP BY a.status")
+    List<Object[]> countByStatusInBatch(@Param("batchId") String batchId);
+
+    @Query("SELECT a.id FROM JobApplication a WHERE a.status = :failed AND a.nextAttemptAt <= :now " +
+            "ORDER BY a.nextAttemptAt")
+    List<Long> findRetryCandidateIds(@Param("failed") JobApplication.ApplicationStatus failed,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    interface ClaimCandidate {
+        Long getId();
+
+        String getBatchId();
+
+        Long getUserId();
+
+        JobApplication.Priority getPriority();
+
+        String getPlatformName();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    interface BatchUpdate {
+        Long getId();
+
+        Long getPlatformId();
+
+        String getJobUrl();
+
+        JobApplication.ApplicationStatus getStatus();
+
+        String getErrorMessage();
+
+        LocalDateTime getNextAttemptAt();
+
+        LocalDateTime getUpdatedAt();
+    }
 }
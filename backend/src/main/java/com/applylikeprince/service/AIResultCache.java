@@ -0,0 +1,300 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.config.FileStorageConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Content-addressed store for model outputs: an in-memory LRU in front of one file per key on disk.
+// Entries hold resume PII, so files are AES-GCM encrypted, expire, and are purged with their resume
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AIResultCache {
+
+    private static final String SUFFIX = ".bin";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final FileStorageConfig fileStorageConfig;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${app.ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.cache.memory-entries:1000}")
+    private int memoryEntries;
+
+    @Value("${app.ai.cache.max-age:P30D}")
+    private Duration maxAge;
+
+    @Value("${app.ai.cache.max-disk-size:256MB}")
+    private DataSize maxDiskSize;
+
+    @Value("${app.ai.cache.secret:change-me-ai-cache-secret}")
+    private String secret;
+
+    private Path baseDir;
+    private SecretKeySpec encryptionKey;
+    private Map<String, Entry> memory;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws Exception {
+        baseDir = Paths.get(fileStorageConfig.getUploadDir(), "ai-cache");
+        Files.createDirectories(baseDir);
+        encryptionKey = new SecretKeySpec(MessageDigest.getInstance("SHA-256")
+                .digest(secret.getBytes(StandardCharsets.UTF_8)), "AES");
+        memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+    }
+
+    // Content hash first, so every entry derived from one resume shares a prefix and can be purged together
+    public static String key(String content, String... version) {
+        MessageDigest digest = sha256();
+        for (String part : version) {
+            digest.update((byte) 0);
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        }
+        return contentHash(content) + "-" + HexFormat.of().formatHex(digest.digest(), 0, 8);
+    }
+
+    // Whitespace and Unicode form differences from text extraction should not change the key
+    private static String contentHash(String content) {
+        String normalized = Normalizer.normalize(content == null ? "" : content, Normalizer.Form.NFKC)
+                .replaceAll("\\s+", " ")
+                .trim();
+        return HexFormat.of().formatHex(sha256().digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Only results accepted by cacheable are stored, so failures are retried on the next call
+    public String getOrCompute(String namespace, String key, Predicate<String> cacheable, Supplier<String> compute) {
+        Stats namespaceStats = stats.computeIfAbsent(namespace, this::register);
+        if (!enabled) {
+            return compute.get();
+        }
+
+        Optional<Entry> cached = lookup(namespace, key);
+        if (cached.isPresent()) {
+            namespaceStats.hits.incrementAndGet();
+            namespaceStats.saved.record(Duration.ofMillis(cached.get().latencyMillis()));
+            return cached.get().value();
+        }
+
+        namespaceStats.misses.incrementAndGet();
+        long start = System.nanoTime();
+        String value = compute.get();
+        long latencyMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+        if (value != null && cacheable.test(value)) {
+            store(namespace, key, new Entry(value, latencyMillis));
+        }
+        return value;
+    }
+
+    // Drops every entry computed from this content, in memory and on disk
+    public void purge(String content) {
+        String prefix = contentHash(content);
+        synchronized (memory) {
+            memory.keySet().removeIf(memoryKey -> memoryKey.startsWith(prefix, memoryKey.indexOf(':') + 1));
+        }
+        try (Stream<Path> namespaces = Files.list(baseDir)) {
+            for (Path namespace : namespaces.filter(Files::isDirectory).toList()) {
+                Path shard = namespace.resolve(prefix.substring(0, 2));
+                if (!Files.isDirectory(shard)) {
+                    continue;
+                }
+                try (Stream<Path> files = Files.list(shard)) {
+                    for (Path file : files.filter(file -> file.getFileName().toString().startsWith(prefix)).toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to purge AI cache entries: {}", e.getMessage());
+        }
+    }
+
+    // Expires old entries, then removes the oldest until the directory fits in max-disk-size.
+    // Also clears plaintext .json entries written by earlier versions
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${app.ai.cache.prune-interval:PT1H}")
+    public void prune() {
+        Instant cutoff = Instant.now().minus(maxAge);
+        List<CachedFile> kept = new ArrayList<>();
+        long totalBytes = 0;
+        int removed = 0;
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                Instant modified = attributes.lastModifiedTime().toInstant();
+                String name = file.getFileName().toString();
+                if (name.endsWith(".json") || modified.isBefore(cutoff)) {
+                    removed += Files.deleteIfExists(file) ? 1 : 0;
+                } else if (name.endsWith(SUFFIX)) {
+                    kept.add(new CachedFile(file, modified, attributes.size()));
+                    totalBytes += attributes.size();
+                }
+            }
+            kept.sort(Comparator.comparing(CachedFile::modified));
+            for (int i = 0; i < kept.size() && totalBytes > maxDiskSize.toBytes(); i++) {
+                removed += Files.deleteIfExists(kept.get(i).path()) ? 1 : 0;
+                totalBytes -= kept.get(i).size();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to prune AI cache: {}", e.getMessage());
+        }
+        if (removed > 0) {
+            log.info("Pruned {} AI cache entries, {} bytes left on disk", removed, totalBytes);
+        }
+    }
+
+    private Optional<Entry> lookup(String namespace, String key) {
+        String memoryKey = namespace + ":" + key;
+        synchronized (memory) {
+            Entry entry = memory.get(memoryKey);
+            if (entry != null) {
+                return Optional.of(entry);
+            }
+        }
+        Path file = fileFor(namespace, key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            if (Files.getLastModifiedTime(file).toInstant().isBefore(Instant.now().minus(maxAge))) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            Entry entry = objectMapper.readValue(decrypt(Files.readAllBytes(file)), Entry.class);
+            synchronized (memory) {
+                memory.put(memoryKey, entry);
+            }
+            return Optional.of(entry);
+        } catch (Exception e) {
+            log.warn("Discarding unreadable AI cache entry {}: {}", file, e.getMessage());
+            try {
+                Files.deleteIfExists(file);
+            } catch (Exception ignored) {
+                // Next store overwrites it anyway
+            }
+            return Optional.empty();
+        }
+    }
+
+    private void store(String namespace, String key, Entry entry) {
+        synchronized (memory) {
+            memory.put(namespace + ":" + key, entry);
+        }
+        Path file = fileFor(namespace, key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            Files.write(temp, encrypt(objectMapper.writeValueAsBytes(entry)));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (Exception e) {
+            log.warn("Failed to persist AI cache entry {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Two-character fan-out keeps directories small
+    private Path fileFor(String namespace, String key) {
+        return baseDir.resolve(namespace).resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+    }
+
+    private byte[] encrypt(byte[] plain) throws Exception {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+        byte[] sealed = cipher.doFinal(plain);
+        return ByteBuffer.allocate(iv.length + sealed.length).put(iv).put(sealed).array();
+    }
+
+    private byte[] decrypt(byte[] data) throws Exception {
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, data, 0, IV_BYTES));
+        return cipher.doFinal(data, IV_BYTES, data.length - IV_BYTES);
+    }
+
+    private Stats register(String namespace) {
+        Stats namespaceStats = new Stats(new AtomicLong(), new AtomicLong(),
+                Timer.builder("ai.cache.saved.latency")
+                        .description("Model latency avoided by cache hits, from the original call")
+                        .tag("namespace", namespace)
+                        .register(meterRegistry));
+        Gauge.builder("ai.cache.hits", namespaceStats.hits, AtomicLong::get)
+                .tag("namespace", namespace)
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.misses", namespaceStats.misses, AtomicLong::get)
+                .tag("namespace", namespace)
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.hit.ratio", namespaceStats, Stats::hitRatio)
+                .tag("namespace", namespace)
+                .register(meterRegistry);
+        return namespaceStats;
+    }
+
+    record Entry(String value, long latencyMillis) {
+    }
+
+    private record CachedFile(Path path, Instant modified, long size) {
+    }
+
+    private record Stats(AtomicLong hits, AtomicLong misses, Timer saved) {
+        double hitRatio() {
+            long total = hits.get() + misses.get();
+            return total == 0 ? 0 : (double) hits.get() / total;
+        }
+    }
+}
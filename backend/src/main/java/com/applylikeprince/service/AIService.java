@@ -2,35 +2,79 @@ package com.applylikeprince.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AIService {
 
+    // Bump when the parse prompt changes so cached results from the old prompt are not reused
+    private static final String PARSE_PROMPT_VERSION = "2";
+    private static final String COVER_LETTER_PROMPT_VERSION = "1";
+    private static final Map<String, String> PARSE_FIELD_EXAMPLES = Map.of(
+            "name", "Full Name",
+            "email", "email@example.com",
+            "phone", "+1234567890",
+            "skills", "Comma-separated list of skills",
+            "experience", "Summary of work experience",
+            "education", "Summary of education");
+
     private final ChatClient chatClient;
+    private final AIResultCache resultCache;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public String parseResume(String resumeContent) {
+    @Value("${spring.ai.openai.chat.options.model:default}")
+    private String model;
+
+    @Value("${app.ai.cover-letter.cache-ttl:PT30M}")
+    private Duration coverLetterTtl;
+
+    @Value("${app.ai.cover-letter.cache-entries:500}")
+    private int coverLetterEntries;
+
+    // Applying to several platforms queues one application each, all asking for the same letter
+    private SingleFlight coverLetters;
+
+    @PostConstruct
+    public void init() {
+        coverLetters = new SingleFlight("cover-letter", coverLetterTtl, coverLetterEntries, meterRegistry);
+    }
+
+    // Asks only for the given fields, e.g. the ones local extraction could not fill
+    public String parseResume(String resumeContent, List<String> fields) {
+        String key = AIResultCache.key(resumeContent, PARSE_PROMPT_VERSION, model, String.join(",", fields));
+        return resultCache.getOrCompute("resume-parse", key, parsed -> !parsed.isBlank() && !"{}".equals(parsed),
+                () -> callParseResume(resumeContent, fields));
+    }
+
+    private String callParseResume(String resumeContent, List<String> fields) {
+        String structure = fields.stream()
+                .map(field -> "    \"%s\": \"%s\"".formatted(field, PARSE_FIELD_EXAMPLES.get(field)))
+                .collect(Collectors.joining(",\n"));
         String prompt = """
                 Parse the following resume and extract the key information.
                 Return the data as a JSON object with the following structure:
                 {
-                    "name": "Full Name",
-                    "email": "email@example.com",
-                    "phone": "+1234567890",
-                    "skills": "Comma-separated list of skills",
-                    "experience": "Summary of work experience",
-                    "education": "Summary of education"
+                %s
                 }
 
                 Resume content:
                 %s
-                """.formatted(resumeContent);
+                """.formatted(structure, resumeContent);
 
         try {
             return chatClient.prompt()
@@ -71,7 +115,50 @@ public class AIService {
     }
 
     public String generateCoverLetter(String resumeContent, String jobTitle, String company, String jobDescription) {
-        String prompt = """
+        String key = AIResultCache.key(resumeContent, COVER_LETTER_PROMPT_VERSION, model,
+                jobTitle, company, jobDescription);
+        return coverLetters.get(key, () -> callGenerateCoverLetter(resumeContent, jobTitle, company, jobDescription));
+    }
+
+    // Emits the letter as the model produces it; a letter already cached for these inputs is replayed whole
+    public Flux<String> streamCoverLetter(String resumeContent, String jobTitle, String company,
+            String jobDescription) {
+        String key = AIResultCache.key(resumeContent, COVER_LETTER_PROMPT_VERSION, model,
+                jobTitle, company, jobDescription);
+        String cached = coverLetters.peek(key);
+        if (cached != null) {
+            return Flux.just(cached);
+        }
+
+        StringBuilder letter = new StringBuilder();
+        return chatClient.prompt()
+                .user(coverLetterPrompt(resumeContent, jobTitle, company, jobDescription))
+                .stream()
+                .content()
+                .doOnNext(letter::append)
+                .doOnComplete(() -> {
+                    if (!letter.isEmpty()) {
+                        coverLetters.put(key, letter.toString());
+                    }
+                });
+    }
+
+    private String callGenerateCoverLetter(String resumeContent, String jobTitle, String company,
+            String jobDescription) {
+        String prompt = coverLetterPrompt(resumeContent, jobTitle, company, jobDescription);
+        try {
+            return chatClient.prompt()
+                    .user(prompt)
+                    .call()
+                    .content();
+        } catch (Exception e) {
+            log.error("Cover letter generation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String coverLetterPrompt(String resumeContent, String jobTitle, String company, String jobDescription) {
+        return """
                 Generate a professional cover letter for the following job application.
 
                 Candidate Resume:
@@ -90,16 +177,6 @@ public class AIService {
                 Return only the cover letter text, no JSON or extra formatting.
                 """.formatted(resumeContent, jobTitle, company,
                 jobDescription != null ? jobDescription : "Not provided");
-
-        try {
-            return chatClient.prompt()
-                    .user(prompt)
-                    .call()
-                    .content();
-        } catch (Exception e) {
-            log.error("Cover letter generation failed: {}", e.getMessage());
-            return null;
-        }
     }
 
     public String optimizeResumeForJob(String resumeContent, String jobDescription) {
@@ -0,0 +1,184 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.config.AdmissionProperties;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.entity.User;
+import com.applylikeprince.repository.JobApplicationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounds how much automation work the apply endpoint accepts; excess gets 429 + Retry-After
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControl {
+
+    private static final List<JobApplication.ApplicationStatus> IN_FLIGHT = List.of(
+            JobApplication.ApplicationStatus.PENDING,
+            JobApplication.ApplicationStatus.IN_PROGRESS);
+
+    // Weight of the newest sample in the drain-rate moving average
+    private static final double ALPHA = 0.3;
+
+    private final AdmissionProperties properties;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final MeterRegistry meterRegistry;
+
+    // Slots claimed by requests that passed the check but have not committed their rows yet
+    private final AtomicLong reserved = new AtomicLong();
+    private final Map<Long, Long> reservedByUser = new ConcurrentHashMap<>();
+
+    private final AtomicLong completedSinceSample = new AtomicLong();
+    private volatile double drainPerSecond;
+    private volatile long lastSampleNanos = System.nanoTime();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("applications.admission.drain.rate", this, control -> control.drainPerSecond)
+                .baseUnit("applications/s")
+                .register(meterRegistry);
+    }
+
+    // Callers may lower their own priority, but only admins get more than NORMAL
+    public JobApplication.Priority priorityFor(User user, String requested) {
+        JobApplication.Priority priority = JobApplication.Priority.from(requested);
+        if (priority.compareTo(JobApplication.Priority.NORMAL) > 0 && user.getRole() != User.UserRole.ADMIN) {
+            return JobApplication.Priority.NORMAL;
+        }
+        return priority;
+    }
+
+    // Hold the returned reservation until the new rows have committed, then close it
+    public Reservation admit(Long userId, JobApplication.Priority priority, int requested) {
+        if (!properties.isEnabled()) {
+            return new Reservation(null, 0);
+        }
+
+        Reservation reservation = reserve(userId, requested);
+        try {
+            long userExcess = reservation.userTotal - properties.getMaxInFlightPerUser();
+            if (userExcess > 0) {
+                reject("user", priority, "Too many applications in progress for this account", userExcess);
+            }
+            long globalExcess = reservation.globalTotal - budget(priority);
+            if (globalExcess > 0) {
+                reject("global", priority, "Automation queue is full, please retry later", globalExcess);
+            }
+        } catch (AdmissionRejectedException e) {
+            reservation.close();
+            throw e;
+        }
+
+        meterRegistry.counter("applications.admission", "result", "admitted", "priority", priority.name())
+                .increment();
+        return reservation;
+    }
+
+    // Reserves as many of the wanted slots as fit right now, possibly none, for callers that wait instead of failing
+    public Reservation reserveUpTo(Long userId, JobApplication.Priority priority, int wanted) {
+        if (!properties.isEnabled()) {
+            return new Reservation(null, wanted);
+        }
+        Reservation reservation = reserve(userId, wanted);
+        long room = Math.min(properties.getMaxInFlightPerUser() - reservation.userTotal,
+                budget(priority) - reservation.globalTotal);
+        reservation.shrinkTo((int) Math.max(0, Math.min(wanted, wanted + room)));
+        return reservation;
+    }
+
+    // Reserving before counting means of two concurrent requests at least one sees the other,
+    // so together they cannot overshoot; at worst a just-committed request is counted twice
+    private Reservation reserve(Long userId, int requested) {
+        Reservation reservation = new Reservation(userId, requested);
+        long userReserved = reservedByUser.merge(userId, (long) requested, Long::sum);
+        long globalReserved = reserved.addAndGet(requested);
+        reservation.userTotal = jobApplicationRepository.countByUserIdAndStatusIn(userId, IN_FLIGHT) + userReserved;
+        reservation.globalTotal = jobApplicationRepository.countByStatusIn(IN_FLIGHT) + globalReserved;
+        return reservation;
+    }
+
+    private void unreserve(Long userId, long amount) {
+        reserved.addAndGet(-amount);
+        reservedByUser.merge(userId, -amount, (current, delta) -> current + delta <= 0 ? null : current + delta);
+    }
+
+    public void recordCompletion() {
+        completedSinceSample.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.admission.drain-sample-interval:PT5S}")
+    public void sampleDrainRate() {
+        long now = System.nanoTime();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        lastSampleNanos = now;
+        if (seconds <= 0) {
+            return;
+        }
+        double rate = completedSinceSample.getAndSet(0) / seconds;
+        drainPerSecond = ALPHA * rate + (1 - ALPHA) * drainPerSecond;
+    }
+
+    private long budget(JobApplication.Priority priority) {
+        return (long) Math.floor(properties.getMaxInFlight()
+                * properties.getShedThresholds().getOrDefault(priority.name(), 1.0));
+    }
+
+    // Time for the queue to drain the excess at the recent completion rate
+    public long retryAfterSeconds(long excess) {
+        long min = properties.getMinRetryAfter().toSeconds();
+        long max = properties.getMaxRetryAfter().toSeconds();
+        double rate = drainPerSecond;
+        if (rate < 1e-3) {
+            return max;
+        }
+        long estimate = (long) Math.ceil(excess / rate);
+        return Math.max(min, Math.min(max, estimate));
+    }
+
+    public final class Reservation implements AutoCloseable {
+        private final Long userId;
+        private int granted;
+        private long userTotal;
+        private long globalTotal;
+
+        private Reservation(Long userId, int granted) {
+            this.userId = userId;
+            this.granted = granted;
+        }
+
+        public int granted() {
+            return granted;
+        }
+
+        private void shrinkTo(int size) {
+            if (userId != null && size < granted) {
+                unreserve(userId, granted - size);
+            }
+            granted = size;
+        }
+
+        @Override
+        public void close() {
+            shrinkTo(0);
+        }
+    }
+
+    private void reject(String scope, JobApplication.Priority priority, String message, long excess) {
+        long retryAfter = retryAfterSeconds(excess);
+        meterRegistry.counter("applications.admission", "result", "rejected_" + scope, "priority", priority.name())
+                .increment();
+        log.info("Rejected {} priority apply request ({} budget exceeded by {}), retry after {}s",
+                priority, scope, excess, retryAfter);
+        throw new AdmissionRejectedException(message, retryAfter);
+    }
+}
@@ -0,0 +1,83 @@
+package com.applylikeprince.service;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+// Multi-pattern matcher: finds every occurrence of every pattern in one pass over the text
+final class AhoCorasick {
+
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(int pattern, int start, int end);
+    }
+
+    private final Node root = new Node(0);
+
+    AhoCorasick(List<String> patterns) {
+        for (int i = 0; i < patterns.size(); i++) {
+            Node node = root;
+            String pattern = patterns.get(i);
+            for (int c = 0; c < pattern.length(); c++) {
+                int depth = c + 1;
+                node = node.children.computeIfAbsent(pattern.charAt(c), ch -> new Node(depth));
+            }
+            if (node.pattern < 0) {
+                node.pattern = i;
+            }
+        }
+        buildFailureLinks();
+    }
+
+    void search(String text, MatchConsumer consumer) {
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            while (state != root && !state.children.containsKey(ch)) {
+                state = state.fail;
+            }
+            state = state.children.getOrDefault(ch, root);
+            for (Node match = state.pattern >= 0 ? state : state.output; match != null; match = match.output) {
+                consumer.accept(match.pattern, i - match.depth + 1, i + 1);
+            }
+        }
+    }
+
+    // Breadth-first so every node's failure target is finished before its children need it
+    private void buildFailureLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+            for (Map.Entry<Character, Node> edge : node.children.entrySet()) {
+                Node child = edge.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(edge.getKey())) {
+                    fail = fail.fail;
+                }
+                Node target = fail.children.get(edge.getKey());
+                child.fail = target != null && target != child ? target : root;
+                child.output = child.fail.pattern >= 0 ? child.fail : child.fail.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final int depth;
+        private Node fail;
+        // Nearest node on the failure chain that ends a pattern
+        private Node output;
+        private int pattern = -1;
+
+        private Node(int depth) {
+            this.depth = depth;
+        }
+    }
+}
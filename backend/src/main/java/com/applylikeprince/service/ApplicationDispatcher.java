@@ -0,0 +1,202 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.automation.PlatformCircuitBreaker;
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.repository.JobApplicationRepository;
+import com.applylikeprince.repository.JobApplicationRepository.ClaimCandidate;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationDispatcher {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ApplicationService applicationService;
+    private final AutomationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final PlatformCircuitBreaker circuitBreaker;
+
+    private final FairShareQueue fairShareQueue = new FairShareQueue();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> inFlightPerBatch = new ConcurrentHashMap<>();
+
+    private String workerId;
+    private Semaphore slots;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        int workers = properties.getQueue().getWorkers();
+        workerId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        slots = new Semaphore(workers);
+        // Each application runs on its own virtual thread; the slot semaphore bounds concurrency
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("apply-worker-", 0).factory());
+        Gauge.builder("applications.queue.active.users", fairShareQueue, FairShareQueue::activeUsers)
+                .register(meterRegistry);
+        log.info("Application dispatcher {} started with {} workers", workerId, workers);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Scheduled(fixedDelayString = "${app.automation.queue.poll-interval:PT2S}")
+    public void dispatch() {
+        renewLeases();
+
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+
+        Set<String> paused = circuitBreaker.pausedPlatforms();
+        refill(paused);
+
+        ClaimCandidate candidate;
+        while (slots.availablePermits() > 0 && (candidate = fairShareQueue.poll()) != null) {
+            // Queued before its platform tripped; leave it PENDING until the circuit lets work through
+            if (paused.contains(candidate.getPlatformName())) {
+                continue;
+            }
+            if (!slots.tryAcquire()) {
+                return;
+            }
+            // Skipped candidates stay PENDING in the database and are fetched again on a later refill
+            if (!acquireBatchSlot(candidate.getBatchId())) {
+                slots.release();
+                continue;
+            }
+            if (claim(candidate.getId())) {
+                recordQueueWait(candidate);
+                inFlight.add(candidate.getId());
+                ClaimCandidate claimed = candidate;
+                executor.execute(() -> run(claimed));
+            } else {
+                releaseBatchSlot(candidate.getBatchId());
+                slots.release();
+            }
+        }
+    }
+
+    // Tops up each user's local queue with their next few candidates; a user with a huge backlog
+    // costs no more than anyone else, and all users share one windowed query. Platforms with an
+    // open circuit are skipped
+    private void refill(Set<String> paused) {
+        // An empty NOT IN list is not portable, and no platform has a blank name
+        Set<String> excluded = paused.isEmpty() ? Set.of("") : paused;
+        Set<Long> stocked = new HashSet<>();
+        for (ClaimCandidate candidate : jobApplicationRepository.findClaimCandidates(
+                JobApplication.ApplicationStatus.PENDING,
+                JobApplication.ApplicationStatus.IN_PROGRESS,
+                LocalDateTime.now(),
+                excluded,
+                properties.getQueue().getFetchPerUser(),
+                JobApplication.Priority.HIGH,
+                JobApplication.Priority.LOW)) {
+            Long userId = candidate.getUserId();
+            // Users still holding queued work keep it; rows come grouped by user
+            if (!stocked.contains(userId) && fairShareQueue.queuedFor(userId) > 0) {
+                continue;
+            }
+            stocked.add(userId);
+            if (!inFlight.contains(candidate.getId())) {
+                fairShareQueue.offer(candidate);
+            }
+        }
+    }
+
+    // Tagged by priority only: a per-user tag would be unbounded and expose user ids on /actuator/metrics
+    private void recordQueueWait(ClaimCandidate candidate) {
+        if (candidate.getCreatedAt() == null) {
+            return;
+        }
+        Timer.builder("applications.queue.wait")
+                .tag("priority", String.valueOf(candidate.getPriority()))
+                .register(meterRegistry)
+                .record(Duration.between(candidate.getCreatedAt(), LocalDateTime.now()));
+    }
+
+    private boolean claim(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobApplicationRepository.claim(id, workerId,
+                JobApplication.ApplicationStatus.PENDING,
+                JobApplication.ApplicationStatus.IN_PROGRESS,
+                now,
+                now.plus(properties.getQueue().getLeaseDuration())) == 1;
+    }
+
+    private void run(ClaimCandidate candidate) {
+        try {
+            applicationService.processQueuedApplication(candidate.getId(), workerId);
+        } catch (Exception e) {
+            log.error("Worker failed to process application {}: {}", candidate.getId(), e.getMessage());
+        } finally {
+            inFlight.remove(candidate.getId());
+            releaseBatchSlot(candidate.getBatchId());
+            slots.release();
+        }
+    }
+
+    // Caps how many platforms of a single apply request run at the same time
+    private boolean acquireBatchSlot(String batchId) {
+        if (batchId == null) {
+            return true;
+        }
+        int limit = properties.getQueue().getPerRequestConcurrency();
+        boolean[] acquired = new boolean[1];
+        inFlightPerBatch.compute(batchId, (key, count) -> {
+            int current = count == null ? 0 : count;
+            acquired[0] = current < limit;
+            return acquired[0] ? current + 1 : current;
+        });
+        return acquired[0];
+    }
+
+    private void releaseBatchSlot(String batchId) {
+        if (batchId != null) {
+            inFlightPerBatch.computeIfPresent(batchId, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void renewLeases() {
+        if (inFlight.isEmpty()) {
+            return;
+        }
+        jobApplicationRepository.renewLeases(Set.copyOf(inFlight), workerId,
+                JobApplication.ApplicationStatus.IN_PROGRESS,
+                LocalDateTime.now().plus(properties.getQueue().getLeaseDuration()));
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "worker";
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.dto.ApplicationEventDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans committed application log events out to each user's open SSE streams
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationEventBus {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.events.max-subscribers-per-user:5}")
+    private int maxSubscribersPerUser;
+
+    @Value("${app.events.heartbeat-interval:PT20S}")
+    private Duration heartbeatInterval;
+
+    @Value("${app.events.stream-timeout:PT30M}")
+    private Duration streamTimeout;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    private Counter published;
+    private Counter evicted;
+
+    @PostConstruct
+    public void init() {
+        published = meterRegistry.counter("applications.events.published");
+        evicted = meterRegistry.counter("applications.events.evicted");
+        Gauge.builder("applications.events.subscribers", open, AtomicInteger::get).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        Set<Subscriber> forUser = subscribers.computeIfAbsent(userId, id -> new CopyOnWriteArraySet<>());
+        // Oldest tabs give way once a user has too many streams open
+        while (forUser.size() >= maxSubscribersPerUser) {
+            forUser.stream().findFirst().ifPresent(this::close);
+        }
+        forUser.add(subscriber);
+        open.incrementAndGet();
+
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        Thread.ofVirtual().name("sse-user-" + userId).start(subscriber::drain);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationEvent(ApplicationEventDTO event) {
+        Set<Subscriber> forUser = subscribers.get(event.getUserId());
+        if (forUser == null) {
+            return;
+        }
+        published.increment();
+        for (Subscriber subscriber : forUser) {
+            // A full buffer means the client is not keeping up; drop it rather than stall publishers
+            if (!subscriber.buffer.offer(event) && subscriber.evicting.compareAndSet(false, true)) {
+                log.debug("Evicting slow event subscriber for user {}", subscriber.userId);
+                // Sending here could block this thread on a client that is not reading; its drain thread
+                // delivers the notice and completes the stream instead
+                detach(subscriber);
+                evicted.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(this::close));
+    }
+
+    private void detach(Subscriber subscriber) {
+        Set<Subscriber> forUser = subscribers.get(subscriber.userId);
+        if (forUser != null && forUser.remove(subscriber)) {
+            open.decrementAndGet();
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        subscriber.closed = true;
+        detach(subscriber);
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // Already completed by the container
+        }
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<ApplicationEventDTO> buffer;
+        private final AtomicBoolean evicting = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, SseEmitter emitter, BlockingQueue<ApplicationEventDTO> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void drain() {
+            try {
+                emitter.send(SseEmitter.event().name("ready").data(Map.of("userId", userId), MediaType.APPLICATION_JSON));
+                while (!closed) {
+                    if (evicting.get()) {
+                        buffer.clear();
+                        emitter.send(SseEmitter.event().name("evicted")
+                                .data(Map.of("message", "Too slow, reconnect to resume"), MediaType.APPLICATION_JSON));
+                        close(this);
+                        return;
+                    }
+                    ApplicationEventDTO event = buffer.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (closed) {
+                        return;
+                    }
+                    if (event == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.getLogId()))
+                                .name("application")
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Event stream for user {} closed: {}", userId, e.getMessage());
+                close(this);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close(this);
+            }
+        }
+    }
+}
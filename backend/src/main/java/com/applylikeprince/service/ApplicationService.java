@@ -1,19 +1,35 @@
 package com.applylikeprince.service;
 
+import com.applylikeprince.automation.CircuitOpenException;
+import com.applylikeprince.automation.FailureArtifacts;
+import com.applylikeprince.automation.PhaseMetrics;
+import com.applylikeprince.automation.PhaseTimings;
+import com.applylikeprince.automation.SubmissionContext;
 import com.applylikeprince.dto.*;
 import com.applylikeprince.entity.*;
 import com.applylikeprince.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,58 +44,81 @@ public class ApplicationService {
     private final ResumeService resumeService;
     private final AIService aiService;
     private final AutomationService automationService;
+    private final ApplicationStateService applicationStateService;
+    private final PhaseMetrics phaseMetrics;
+    private final FailureArtifacts failureArtifacts;
+    private final IdempotencyService idempotencyService;
+    private final TransactionTemplate transactionTemplate;
+    private final AdmissionControl admissionControl;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationEventBus applicationEventBus;
 
-    @Transactional
-    public List<ApplicationDTO> applyToJobs(ApplyRequest request) {
+    @Value("${app.ai.cover-letter.stream-timeout:PT2M}")
+    private Duration coverLetterStreamTimeout;
+
+    public List<ApplicationDTO> applyToJobs(ApplyRequest request, String idempotencyKey) {
+        User user = userService.getCurrentUser();
+        JobApplication.Priority priority = admissionControl.priorityFor(user, request.getPriority());
+        // Released once the rows are committed and show up in the in-flight counts
+        try (AdmissionControl.Reservation reservation =
+                     admissionControl.admit(user.getId(), priority, request.getPlatformIds().size())) {
+            try {
+                return transactionTemplate.execute(status -> createApplications(request, priority, idempotencyKey));
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent identical request committed first; the retry resolves to its rows
+                log.info("Duplicate apply request raced on idempotency key, returning existing applications");
+                return transactionTemplate.execute(status -> createApplications(request, priority, idempotencyKey));
+            }
+        }
+    }
+
+    private List<ApplicationDTO> createApplications(ApplyRequest request, JobApplication.Priority priority,
+            String idempotencyKey) {
         User user = userService.getCurrentUser();
         Resume resume = resumeService.getResumeEntityById(request.getResumeId());
 
+        String batchId = UUID.randomUUID().toString();
         List<ApplicationDTO> results = new ArrayList<>();
 
         for (Long platformId : request.getPlatformIds()) {
             Platform platform = platformRepository.findById(platformId)
                     .orElseThrow(() -> new RuntimeException("Platform not found: " + platformId));
 
-            // Create application record
+            String key = idempotencyService.keyFor(user.getId(), platformId, idempotencyKey, request.getJobUrl());
+            if (key != null && idempotencyService.mightExist(key)) {
+                JobApplication existing = jobApplicationRepository.findByIdempotencyKey(key).orElse(null);
+                if (existing != null) {
+                    log.info("Duplicate apply for platform {}, returning application {}", platformId, existing.getId());
+                    results.add(ApplicationDTO.fromEntity(existing));
+                    continue;
+                }
+            }
+
+            // Create application record; the dispatcher picks it up from the queue
             JobApplication application = JobApplication.builder()
                     .user(user)
                     .platform(platform)
                     .resume(resume)
+                    .batchId(batchId)
+                    .idempotencyKey(key)
                     .jobTitle(request.getJobTitle())
                     .company(request.getCompany())
                     .jobUrl(request.getJobUrl())
                     .location(request.getLocation())
                     .status(JobApplication.ApplicationStatus.PENDING)
+                    .priority(priority)
+                    .generateCoverLetter(Boolean.TRUE.equals(request.getGenerateCoverLetter()))
+                    .coverLetter(request.getCustomCoverLetter())
                     .attemptCount(0)
                     .build();
 
-            // Generate cover letter if requested
-            if (Boolean.TRUE.equals(request.getGenerateCoverLetter())) {
-                String coverLetter = aiService.generateCoverLetter(
-                        resume.getRawContent(),
-                        request.getJobTitle(),
-                        request.getCompany(),
-                        null);
-                application.setCoverLetter(coverLetter);
-            } else if (request.getCustomCoverLetter() != null) {
-                application.setCoverLetter(request.getCustomCoverLetter());
+            if (key != null) {
+                idempotencyService.remember(key);
             }
-
             application = jobApplicationRepository.save(application);
 
             // Log creation
-            logApplicationAction(application, ApplicationLog.LogAction.CREATED, "Application created");
-
-            // Trigger automation (async in production)
-            try {
-                automationService.submitApplication(application);
-            } catch (Exception e) {
-                log.error("Automation failed for application {}: {}", application.getId(), e.getMessage());
-                application.setStatus(JobApplication.ApplicationStatus.FAILED);
-                application.setErrorMessage(e.getMessage());
-                jobApplicationRepository.save(application);
-                logApplicationAction(application, ApplicationLog.LogAction.FAILED, e.getMessage());
-            }
+            logApplicationAction(application, ApplicationLog.LogAction.CREATED, "Application queued");
 
             results.add(ApplicationDTO.fromEntity(application));
         }
@@ -87,6 +126,53 @@ public class ApplicationService {
         return results;
     }
 
+    // Runs on a worker thread without a surrounding transaction: each state change commits on
+    // its own, and the AI and browser work in between does not hold a database connection
+    public void processQueuedApplication(Long id, String workerId) {
+        SubmissionContext context = applicationStateService.startAttempt(id, workerId).orElse(null);
+        if (context == null) {
+            return;
+        }
+
+        PhaseTimings timings = new PhaseTimings();
+        String outcome = PhaseMetrics.SUBMITTED;
+        try {
+            // Generate cover letter if requested
+            if (context.generateCoverLetter() && context.coverLetter() == null && context.resumeContent() != null) {
+                SubmissionContext current = context;
+                String coverLetter = timings.time(PhaseTimings.Phase.COVER_LETTER, () -> aiService.generateCoverLetter(
+                        current.resumeContent(),
+                        current.jobTitle(),
+                        current.company(),
+                        current.jobDescription()));
+                if (coverLetter != null) {
+                    applicationStateService.saveCoverLetter(id, coverLetter);
+                    context = context.withCoverLetter(coverLetter);
+                }
+            }
+
+            String submittedData = automationService.submitApplication(context, timings);
+            // The stored breakdown is taken before the write it is part of, so it stops short of persist;
+            // persist time and the full total are only in the phase metrics
+            String summary = timings.summary();
+            timings.time(PhaseTimings.Phase.PERSIST, () ->
+                    applicationStateService.markSubmitted(id, workerId, submittedData, summary));
+        } catch (CircuitOpenException e) {
+            // The platform tripped after this row was claimed; hand it back untouched
+            outcome = PhaseMetrics.DEFERRED;
+            applicationStateService.deferAttempt(id, workerId, e.getMessage());
+        } catch (Exception e) {
+            log.error("Automation failed for application {}: {}", id, e.getMessage());
+            outcome = PhaseMetrics.FAILED;
+            String summary = timings.summary();
+            timings.time(PhaseTimings.Phase.PERSIST, () ->
+                    applicationStateService.markFailed(id, workerId, e, summary,
+                            failureArtifacts.takeScheduled(id).orElse(null)));
+        } finally {
+            phaseMetrics.publish(context.platformName(), outcome, timings);
+        }
+    }
+
     public Page<ApplicationDTO> getApplicationHistory(int page, int size) {
         User user = userService.getCurrentUser();
         Pageable pageable = PageRequest.of(page, size);
@@ -95,6 +181,75 @@ public class ApplicationService {
                 .map(ApplicationDTO::fromEntity);
     }
 
+    // Pushes status changes and log entries for the current user's applications as they commit
+    public SseEmitter streamEvents() {
+        User user = userService.getCurrentUser();
+        return applicationEventBus.subscribe(user.getId());
+    }
+
+    // Streams a freshly generated cover letter as "token" events, then saves it and sends "done"
+    public SseEmitter streamCoverLetter(Long id) {
+        User user = userService.getCurrentUser();
+        JobApplication application = jobApplicationRepository.findWithDetailsById(id)
+                .filter(found -> found.getUser().getId().equals(user.getId()))
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+        if (application.getStatus() != JobApplication.ApplicationStatus.PENDING
+                && application.getStatus() != JobApplication.ApplicationStatus.FAILED) {
+            throw new RuntimeException("Cover letter can only be generated before the application is submitted");
+        }
+        if (application.getResume() == null || application.getResume().getRawContent() == null) {
+            throw new RuntimeException("Application has no resume to write a cover letter from");
+        }
+
+        SseEmitter emitter = new SseEmitter(coverLetterStreamTimeout.toMillis());
+        StringBuilder letter = new StringBuilder();
+        Disposable subscription = aiService.streamCoverLetter(
+                        application.getResume().getRawContent(),
+                        application.getJobTitle(),
+                        application.getCompany(),
+                        application.getJobDescription())
+                .subscribe(
+                        token -> {
+                            letter.append(token);
+                            sendEvent(emitter, "token", Map.of("text", token));
+                        },
+                        error -> {
+                            log.error("Cover letter stream failed for application {}: {}", id, error.getMessage());
+                            sendEvent(emitter, "error", Map.of("message", "Cover letter generation failed"));
+                            emitter.complete();
+                        },
+                        () -> {
+                            if (letter.isEmpty()) {
+                                sendEvent(emitter, "error", Map.of("message", "Model returned an empty cover letter"));
+                                emitter.complete();
+                                return;
+                            }
+                            // The status check above ran when the stream started; a worker may have claimed it since
+                            if (!applicationStateService.saveCoverLetterIfIdle(id, letter.toString())) {
+                                sendEvent(emitter, "error", Map.of("message",
+                                        "Application was picked up for submission, cover letter not saved"));
+                                emitter.complete();
+                                return;
+                            }
+                            sendEvent(emitter, "done", Map.of("applicationId", id, "coverLetter", letter.toString()));
+                            emitter.complete();
+                        });
+        // Stop paying for tokens nobody will read
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(error -> subscription.dispose());
+        return emitter;
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Map<String, Object> data) {
+        try {
+            // JSON keeps newlines in the letter from breaking SSE framing
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Cover letter stream client went away: {}", e.getMessage());
+        }
+    }
+
     public List<ApplicationDTO> getRecentApplications() {
         User user = userService.getCurrentUser();
         return jobApplicationRepository.findTop10ByUserIdOrderByCreatedAtDesc(user.getId())
@@ -168,6 +323,6 @@ public class ApplicationService {
                 .details(details)
                 .level(ApplicationLog.LogLevel.INFO)
                 .build();
-        applicationLogRepository.save(log);
+        eventPublisher.publishEvent(ApplicationEventDTO.fromLog(applicationLogRepository.save(log)));
     }
 }
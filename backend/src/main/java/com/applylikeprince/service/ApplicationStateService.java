@@ -0,0 +1,189 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.automation.FailureClassifier;
+import com.applylikeprince.automation.SubmissionContext;
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.dto.ApplicationEventDTO;
+import com.applylikeprince.entity.ApplicationLog;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.repository.ApplicationLogRepository;
+import com.applylikeprince.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationStateService {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ApplicationLogRepository applicationLogRepository;
+    private final FailureClassifier failureClassifier;
+    private final AutomationProperties properties;
+    private final AdmissionControl admissionControl;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Optional<SubmissionContext> startAttempt(Long id, String workerId) {
+        JobApplication application = jobApplicationRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found: " + id));
+        if (!ownsLease(application, workerId)) {
+            log.warn("Worker {} no longer owns application {}, skipping", workerId, id);
+            return Optional.empty();
+        }
+
+        application.setAttemptCount(application.getAttemptCount() + 1);
+        application.setLastAttemptAt(LocalDateTime.now());
+        logAction(application, ApplicationLog.LogAction.STARTED, ApplicationLog.LogLevel.INFO,
+                "Attempt " + application.getAttemptCount() + " started");
+
+        return Optional.of(SubmissionContext.fromEntity(application));
+    }
+
+    @Transactional
+    public void saveCoverLetter(Long id, String coverLetter) {
+        jobApplicationRepository.findById(id)
+                .ifPresent(application -> application.setCoverLetter(coverLetter));
+    }
+
+    // For letters written outside a worker attempt; false when a worker has claimed or finished the row meanwhile
+    @Transactional
+    public boolean saveCoverLetterIfIdle(Long id, String coverLetter) {
+        return jobApplicationRepository.updateCoverLetterIfIdle(id, coverLetter, List.of(
+                JobApplication.ApplicationStatus.PENDING, JobApplication.ApplicationStatus.FAILED)) == 1;
+    }
+
+    @Transactional
+    public void markSubmitted(Long id, String workerId, String submittedData, String timings) {
+        JobApplication application = jobApplicationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found: " + id));
+        if (!ownsLease(application, workerId)) {
+            log.warn("Discarding submission result for application {}: lease lost", id);
+            return;
+        }
+
+        application.setStatus(JobApplication.ApplicationStatus.SUBMITTED);
+        application.setSubmittedData(submittedData);
+        application.setErrorMessage(null);
+        application.setNextAttemptAt(null);
+        application.setAppliedAt(LocalDateTime.now());
+        clearLease(application);
+        logAction(application, ApplicationLog.LogAction.SUBMITTED, ApplicationLog.LogLevel.INFO,
+                "Application submitted", timings);
+        admissionControl.recordCompletion();
+    }
+
+    @Transactional
+    public void markFailed(Long id, String workerId, Throwable error, String timings, String artifactPath) {
+        JobApplication application = jobApplicationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found: " + id));
+        if (!ownsLease(application, workerId)) {
+            log.warn("Discarding failure for application {}: lease lost", id);
+            return;
+        }
+
+        FailureClassifier.FailureType type = failureClassifier.classify(error);
+        boolean retryable = type == FailureClassifier.FailureType.TRANSIENT
+                && application.getAttemptCount() < properties.getRetry().getMaxAttempts();
+        LocalDateTime nextAttemptAt = retryable
+                ? LocalDateTime.now().plus(backoff(application.getAttemptCount()))
+                : null;
+
+        application.setStatus(JobApplication.ApplicationStatus.FAILED);
+        application.setErrorMessage(error.getMessage());
+        application.setNextAttemptAt(nextAttemptAt);
+        clearLease(application);
+
+        String details = retryable
+                ? "%s (%s, retry scheduled at %s)".formatted(error.getMessage(), type, nextAttemptAt)
+                : "%s (%s, no retry)".formatted(error.getMessage(), type);
+        ApplicationLog entry = logAction(application, ApplicationLog.LogAction.FAILED, ApplicationLog.LogLevel.ERROR,
+                details, timings);
+        entry.setArtifactPath(artifactPath);
+        admissionControl.recordCompletion();
+    }
+
+    // Returns a claimed application to PENDING without counting the attempt
+    @Transactional
+    public void deferAttempt(Long id, String workerId, String reason) {
+        JobApplication application = jobApplicationRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Application not found: " + id));
+        if (!ownsLease(application, workerId)) {
+            return;
+        }
+
+        application.setStatus(JobApplication.ApplicationStatus.PENDING);
+        application.setAttemptCount(Math.max(0, application.getAttemptCount() - 1));
+        clearLease(application);
+        logAction(application, ApplicationLog.LogAction.RETRIED, ApplicationLog.LogLevel.WARNING, reason);
+    }
+
+    @Transactional
+    public int requeueForRetry(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = 0;
+        for (JobApplication application : jobApplicationRepository.findAllById(ids)) {
+            // Another instance may already have picked the row up
+            if (application.getStatus() != JobApplication.ApplicationStatus.FAILED
+                    || application.getNextAttemptAt() == null
+                    || application.getNextAttemptAt().isAfter(now)) {
+                continue;
+            }
+            application.setStatus(JobApplication.ApplicationStatus.PENDING);
+            application.setNextAttemptAt(null);
+            logAction(application, ApplicationLog.LogAction.RETRIED, ApplicationLog.LogLevel.INFO,
+                    "Re-queued after " + application.getAttemptCount() + " attempt(s)");
+            requeued++;
+        }
+        return requeued;
+    }
+
+    // Exponential backoff with equal jitter: half the delay is fixed, the other half random
+    private Duration backoff(int attempts) {
+        AutomationProperties.Retry retry = properties.getRetry();
+        long baseMillis = retry.getBaseDelay().toMillis();
+        long capMillis = retry.getMaxDelay().toMillis();
+        long exponential = baseMillis << Math.min(Math.max(attempts - 1, 0), 20);
+        long delay = Math.min(capMillis, exponential);
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+
+    private boolean ownsLease(JobApplication application, String workerId) {
+        return application.getStatus() == JobApplication.ApplicationStatus.IN_PROGRESS
+                && workerId.equals(application.getLeaseOwner());
+    }
+
+    private void clearLease(JobApplication application) {
+        application.setLeaseOwner(null);
+        application.setLeaseExpiresAt(null);
+    }
+
+    private void logAction(JobApplication application, ApplicationLog.LogAction action,
+            ApplicationLog.LogLevel level, String details) {
+        logAction(application, action, level, details, null);
+    }
+
+    private ApplicationLog logAction(JobApplication application, ApplicationLog.LogAction action,
+            ApplicationLog.LogLevel level, String details, String timings) {
+        ApplicationLog log = ApplicationLog.builder()
+                .application(application)
+                .action(action)
+                .details(details)
+                .level(level)
+                .timings(timings)
+                .build();
+        ApplicationLog saved = applicationLogRepository.save(log);
+        eventPublisher.publishEvent(ApplicationEventDTO.fromLog(saved));
+        return saved;
+    }
+}
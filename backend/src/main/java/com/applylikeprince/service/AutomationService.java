@@ -1,172 +1,103 @@
 package com.applylikeprince.service;
 
-import com.applylikeprince.entity.JobApplication;
-import com.applylikeprince.entity.Platform;
-import com.applylikeprince.entity.Resume;
-import com.applylikeprince.repository.JobApplicationRepository;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.applylikeprince.automation.AutomationWatchdog;
+import com.applylikeprince.automation.BrowserEngine;
+import com.applylikeprince.automation.EngineEscalationException;
+import com.applylikeprince.automation.EngineSelector;
+import com.applylikeprince.automation.EngineType;
+import com.applylikeprince.automation.FailureClassifier;
+import com.applylikeprince.automation.HtmlEngine;
+import com.applylikeprince.automation.PhaseTimings;
+import com.applylikeprince.automation.PlatformCircuitBreaker;
+import com.applylikeprince.automation.PlatformHandler;
+import com.applylikeprince.automation.PlatformHandlerRegistry;
+import com.applylikeprince.automation.PlatformThrottle;
+import com.applylikeprince.automation.SubmissionContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.openqa.selenium.By;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AutomationService {
 
-    private final JobApplicationRepository jobApplicationRepository;
+    private final PlatformThrottle platformThrottle;
+    private final PlatformCircuitBreaker circuitBreaker;
+    private final AutomationWatchdog watchdog;
+    private final PlatformHandlerRegistry handlerRegistry;
+    private final EngineSelector engineSelector;
+    private final HtmlEngine htmlEngine;
+    private final BrowserEngine browserEngine;
+    private final FailureClassifier failureClassifier;
+    private final MeterRegistry meterRegistry;
+
+    public String submitApplication(SubmissionContext context, PhaseTimings timings) {
+        // Fails fast with CircuitOpenException while the platform is tripped
+        PlatformCircuitBreaker.Permit permit = circuitBreaker.acquire(context.platformName());
+        try {
+            // Wait for platform capacity before starting any engine
+            long waitStart = System.nanoTime();
+            return platformThrottle.execute(context.platformName(), () -> {
+                timings.record(PhaseTimings.Phase.THROTTLE, System.nanoTime() - waitStart);
+                long start = System.nanoTime();
+                // The deadline starts once the platform lets us in, so throttle waits do not count against it
+                try (AutomationWatchdog.Watch watch = watchdog.watch(context)) {
+                    try {
+                        String submissionData = runWithEngines(context, timings);
+                        permit.onSuccess(System.nanoTime() - start);
+                        return submissionData;
+                    } catch (RuntimeException e) {
+                        RuntimeException failure = watch.expired() ? watch.timeout(e) : e;
+                        // Bad job URLs, missing resumes and the like say nothing about the platform's health;
+                        // they stay neutral so one user's broken batch cannot trip the circuit for everyone
+                        if (failureClassifier.classify(failure) == FailureClassifier.FailureType.TRANSIENT) {
+                            permit.onFailure(System.nanoTime() - start);
+                        }
+                        throw failure;
+                    }
+                }
+            });
+        } finally {
+            permit.release();
+        }
+    }
 
-    public void submitApplication(JobApplication application) {
+    private String runWithEngines(SubmissionContext context, PhaseTimings timings) {
         log.info("Starting automation for application {} on platform {}",
-                application.getId(),
-                application.getPlatform().getName());
-
-        Platform platform = application.getPlatform();
-        Resume resume = application.getResume();
+                context.applicationId(),
+                context.platformName());
 
-        // Update status to in progress
-        application.setStatus(JobApplication.ApplicationStatus.IN_PROGRESS);
-        application.setAttemptCount(application.getAttemptCount() + 1);
-        application.setLastAttemptAt(LocalDateTime.now());
-        jobApplicationRepository.save(application);
+        // Route to appropriate platform handler
+        PlatformHandler handler = handlerRegistry.resolve(context);
+        String engineKey = engineSelector.keyFor(context);
 
-        WebDriver driver = null;
         try {
-            driver = createWebDriver();
-
-            // Route to appropriate platform handler
-            switch (platform.getName().toLowerCase()) {
-                case "linkedin":
-                    applyToLinkedIn(driver, application, resume);
-                    break;
-                case "hirect":
-                    applyToHirect(driver, application, resume);
-                    break;
-                case "cutshort":
-                    applyToCutshort(driver, application, resume);
-                    break;
-                default:
-                    applyGeneric(driver, application, resume);
-                    break;
+            String submissionData = null;
+            if (engineSelector.choose(engineKey, handler.capabilities()) == EngineType.HTML) {
+                try {
+                    submissionData = htmlEngine.run(context, handler, timings);
+                    engineSelector.remember(engineKey, EngineType.HTML);
+                } catch (EngineEscalationException e) {
+                    log.info("Escalating application {} to browser: {}", context.applicationId(), e.getMessage());
+                    meterRegistry.counter("automation.engine.escalations", "platform", context.platformName())
+                            .increment();
+                    engineSelector.remember(engineKey, EngineType.BROWSER);
+                }
+            }
+            if (submissionData == null) {
+                submissionData = browserEngine.run(context, handler, timings);
             }
-
-            // Mark as submitted
-            application.setStatus(JobApplication.ApplicationStatus.SUBMITTED);
-            application.setAppliedAt(LocalDateTime.now());
-            jobApplicationRepository.save(application);
 
             log.info("Successfully submitted application {} to {}",
-                    application.getId(),
-                    platform.getDisplayName());
+                    context.applicationId(),
+                    context.platformDisplayName());
+            return submissionData;
 
         } catch (Exception e) {
-            log.error("Automation failed for application {}: {}", application.getId(), e.getMessage());
-            application.setStatus(JobApplication.ApplicationStatus.FAILED);
-            application.setErrorMessage(e.getMessage());
-            jobApplicationRepository.save(application);
+            log.error("Automation failed for application {}: {}", context.applicationId(), e.getMessage());
             throw new RuntimeException("Automation failed: " + e.getMessage(), e);
-        } finally {
-            if (driver != null) {
-                driver.quit();
-            }
-        }
-    }
-
-    private WebDriver createWebDriver() {
-        WebDriverManager.chromedriver().setup();
-
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        options.addArguments("--user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-
-        return new ChromeDriver(options);
-    }
-
-    private void applyToLinkedIn(WebDriver driver, JobApplication application, Resume resume) {
-        log.info("Processing LinkedIn application");
-
-        // Navigate to job URL if provided
-        if (application.getJobUrl() != null && !application.getJobUrl().isEmpty()) {
-            driver.get(application.getJobUrl());
-        } else {
-            driver.get("https://www.linkedin.com/jobs/");
-        }
-
-        // Wait for page to load
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-
-        // Note: In production, this would need proper LinkedIn authentication
-        // For now, we'll store the submission data for manual review
-        String submissionData = buildSubmissionData(application, resume);
-        application.setSubmittedData(submissionData);
-
-        log.info("LinkedIn application data prepared for job: {}", application.getJobTitle());
-    }
-
-    private void applyToHirect(WebDriver driver, JobApplication application, Resume resume) {
-        log.info("Processing Hirect application");
-
-        driver.get("https://www.hirect.in/jobs");
-
-        String submissionData = buildSubmissionData(application, resume);
-        application.setSubmittedData(submissionData);
-
-        log.info("Hirect application data prepared for job: {}", application.getJobTitle());
-    }
-
-    private void applyToCutshort(WebDriver driver, JobApplication application, Resume resume) {
-        log.info("Processing Cutshort application");
-
-        driver.get("https://cutshort.io/jobs");
-
-        String submissionData = buildSubmissionData(application, resume);
-        application.setSubmittedData(submissionData);
-
-        log.info("Cutshort application data prepared for job: {}", application.getJobTitle());
-    }
-
-    private void applyGeneric(WebDriver driver, JobApplication application, Resume resume) {
-        log.info("Processing generic application for platform: {}",
-                application.getPlatform().getDisplayName());
-
-        if (application.getJobUrl() != null && !application.getJobUrl().isEmpty()) {
-            driver.get(application.getJobUrl());
-        }
-
-        String submissionData = buildSubmissionData(application, resume);
-        application.setSubmittedData(submissionData);
-
-        log.info("Generic application data prepared");
-    }
-
-    private String buildSubmissionData(JobApplication application, Resume resume) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("=== Application Submission Data ===\n");
-        sb.append("Name: ").append(resume.getExtractedName()).append("\n");
-        sb.append("Email: ").append(resume.getExtractedEmail()).append("\n");
-        sb.append("Phone: ").append(resume.getExtractedPhone()).append("\n");
-        sb.append("Job Title: ").append(application.getJobTitle()).append("\n");
-        sb.append("Company: ").append(application.getCompany()).append("\n");
-        sb.append("Location: ").append(application.getLocation()).append("\n");
-        sb.append("Skills: ").append(resume.getExtractedSkills()).append("\n");
-        if (application.getCoverLetter() != null) {
-            sb.append("\n=== Cover Letter ===\n");
-            sb.append(application.getCoverLetter()).append("\n");
         }
-        return sb.toString();
     }
 }
@@ -0,0 +1,415 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.dto.ApplicationEventDTO;
+import com.applylikeprince.dto.BulkJobItem;
+import com.applylikeprince.entity.ApplicationLog;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.entity.User;
+import com.applylikeprince.repository.JobApplicationRepository;
+import com.applylikeprince.repository.JobApplicationRepository.BatchUpdate;
+import com.applylikeprince.repository.PlatformRepository;
+import com.applylikeprince.repository.ResumeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+// Bulk apply: streams postings in, inserts rows in JDBC batches as admission allows, and streams
+// per-item results out. Only one chunk of rows is held in memory at a time.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkApplyService {
+
+    private static final String INSERT_APPLICATION = "INSERT INTO job_applications (user_id, platform_id, resume_id, "
+            + "batch_id, idempotency_key, job_title, company, job_url, location, job_description, status, priority, "
+            + "generate_cover_letter, attempt_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_LOG = "INSERT INTO application_logs (application_id, action, details, level, "
+            + "timestamp) VALUES (?, ?, ?, ?, ?)";
+    private static final String CREATED_DETAILS = "Application queued (bulk)";
+
+    private static final List<JobApplication.ApplicationStatus> ACTIVE = List.of(
+            JobApplication.ApplicationStatus.PENDING, JobApplication.ApplicationStatus.IN_PROGRESS);
+
+    // Updates newer than this may belong to transactions that have not committed yet
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(2);
+    private static final int UPDATE_PAGE_SIZE = 500;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final PlatformRepository platformRepository;
+    private final ResumeRepository resumeRepository;
+    private final UserService userService;
+    private final IdempotencyService idempotencyService;
+    private final AdmissionControl admissionControl;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.bulk.chunk-size:200}")
+    private int chunkSize;
+
+    @Value("${app.bulk.poll-interval:PT2S}")
+    private Duration pollInterval;
+
+    @Value("${app.bulk.stream-timeout:PT55M}")
+    private Duration streamTimeout;
+
+    @FunctionalInterface
+    public interface EventSink {
+        void send(String type, Map<String, Object> data) throws IOException;
+    }
+
+    public record BulkBatch(String batchId, Long userId, Long resumeId, List<Long> platformIds,
+            JobApplication.Priority priority, boolean generateCoverLetter) {
+    }
+
+    private record Row(int item, Long platformId, BulkJobItem job, String idempotencyKey) {
+    }
+
+    // Runs on the request thread so validation errors still become regular 4xx responses
+    public BulkBatch prepare(Long resumeId, List<Long> platformIds, String priority, Boolean generateCoverLetter) {
+        User user = userService.getCurrentUser();
+        if (resumeId != null) {
+            resumeRepository.findByIdAndUserId(resumeId, user.getId())
+                    .orElseThrow(() -> new RuntimeException("Resume not found"));
+        }
+        if (platformIds == null || platformIds.isEmpty()) {
+            throw new RuntimeException("At least one platform must be selected");
+        }
+        for (Long platformId : platformIds) {
+            if (!platformRepository.existsById(platformId)) {
+                throw new RuntimeException("Platform not found: " + platformId);
+            }
+        }
+        return new BulkBatch(UUID.randomUUID().toString(), user.getId(), resumeId, List.copyOf(platformIds),
+                admissionControl.priorityFor(user, priority), Boolean.TRUE.equals(generateCoverLetter));
+    }
+
+    public String ownedBatch(String batchId) {
+        User user = userService.getCurrentUser();
+        if (!jobApplicationRepository.existsByBatchIdAndUserId(batchId, user.getId())) {
+            throw new RuntimeException("Batch not found");
+        }
+        return batchId;
+    }
+
+    public Iterator<BulkJobItem> jsonItems(InputStream input) throws IOException {
+        // Reads one array element at a time instead of binding the whole list
+        return objectMapper.readerFor(BulkJobItem.class).readValues(input);
+    }
+
+    public Iterator<BulkJobItem> csvItems(InputStream input) {
+        return new CsvJobReader(input);
+    }
+
+    public void enqueueAndFollow(BulkBatch batch, Iterator<BulkJobItem> items, EventSink sink) throws IOException {
+        long deadline = System.nanoTime() + streamTimeout.toNanos();
+        sink.send("batch", Map.of("batchId", batch.batchId()));
+
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        Set<String> chunkKeys = new HashSet<>();
+        int index = 0;
+        int queued = 0;
+        while (items.hasNext()) {
+            int item = index++;
+            BulkJobItem job = items.next();
+            if (isBlank(job.getJobUrl()) && isBlank(job.getJobTitle())) {
+                sink.send("invalid", event(item, null, job, "jobUrl or jobTitle is required"));
+                continue;
+            }
+            for (Long platformId : batch.platformIds()) {
+                String key = idempotencyService.keyFor(batch.userId(), platformId, null, job.getJobUrl());
+                if (key != null && !chunkKeys.add(key)) {
+                    sink.send("duplicate", event(item, platformId, job, null));
+                    continue;
+                }
+                if (key != null && isExisting(key, item, platformId, job, sink)) {
+                    continue;
+                }
+                chunk.add(new Row(item, platformId, job, key));
+            }
+            if (chunk.size() >= chunkSize) {
+                queued += flush(batch, chunk, sink, deadline);
+                chunk.clear();
+                chunkKeys.clear();
+            }
+        }
+        queued += flush(batch, chunk, sink, deadline);
+        sink.send("accepted", Map.of("batchId", batch.batchId(), "items", index, "queued", queued));
+        log.info("Bulk batch {} queued {} applications from {} postings", batch.batchId(), queued, index);
+
+        follow(batch.batchId(), sink, deadline);
+    }
+
+    public void follow(String batchId, EventSink sink, long deadline) throws IOException {
+        LocalDateTime afterTime = LocalDateTime.of(1970, 1, 1, 0, 0);
+        long afterId = 0;
+        while (true) {
+            List<BatchUpdate> updates = jobApplicationRepository.findBatchUpdates(batchId, afterTime, afterId,
+                    LocalDateTime.now().minus(COMMIT_LAG), PageRequest.of(0, UPDATE_PAGE_SIZE));
+            for (BatchUpdate update : updates) {
+                afterTime = update.getUpdatedAt();
+                afterId = update.getId();
+                if (update.getStatus() == JobApplication.ApplicationStatus.PENDING) {
+                    continue;
+                }
+                Map<String, Object> data = new LinkedHashMap<>();
+                data.put("applicationId", update.getId());
+                data.put("platformId", update.getPlatformId());
+                data.put("jobUrl", update.getJobUrl());
+                data.put("status", update.getStatus().name());
+                data.put("error", update.getErrorMessage());
+                data.put("nextAttemptAt", update.getNextAttemptAt());
+                sink.send("status", data);
+            }
+            if (updates.size() == UPDATE_PAGE_SIZE) {
+                continue;
+            }
+
+            long outstanding = jobApplicationRepository.countOutstandingInBatch(batchId, ACTIVE,
+                    JobApplication.ApplicationStatus.FAILED);
+            if (outstanding == 0 && !hasUnseenUpdates(batchId, afterTime, afterId)) {
+                sink.send("done", summary(batchId));
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                Map<String, Object> data = summary(batchId);
+                data.put("outstanding", outstanding);
+                sink.send("timeout", data);
+                return;
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    public long newDeadline() {
+        return System.nanoTime() + streamTimeout.toNanos();
+    }
+
+    // Inserts the chunk as fast as admission control allows, waiting (not failing) while the queue is full
+    private int flush(BulkBatch batch, List<Row> chunk, EventSink sink, long deadline) throws IOException {
+        int offset = 0;
+        int queued = 0;
+        while (offset < chunk.size()) {
+            List<Row> part;
+            Map<Row, Long> results;
+            try (AdmissionControl.Reservation reservation =
+                         admissionControl.reserveUpTo(batch.userId(), batch.priority(), chunk.size() - offset)) {
+                if (reservation.granted() == 0) {
+                    long retryAfter = admissionControl.retryAfterSeconds(chunk.size() - offset);
+                    sink.send("throttled", Map.of("waiting", chunk.size() - offset, "retryAfterSeconds", retryAfter));
+                    if (System.nanoTime() > deadline) {
+                        throw new AdmissionRejectedException("Bulk apply timed out waiting for queue capacity", retryAfter);
+                    }
+                    sleep(Duration.ofSeconds(Math.min(retryAfter, 10)));
+                    continue;
+                }
+                part = chunk.subList(offset, offset + reservation.granted());
+                results = insert(batch, part);
+            }
+            for (Map.Entry<Row, Long> inserted : results.entrySet()) {
+                Row row = inserted.getKey();
+                Map<String, Object> data = event(row.item(), row.platformId(), row.job(), null);
+                if (inserted.getValue() != null) {
+                    data.put("applicationId", inserted.getValue());
+                    sink.send("queued", data);
+                    queued++;
+                } else {
+                    sink.send("duplicate", data);
+                }
+            }
+            offset += part.size();
+        }
+        // Duplicates were skipped, not queued
+        return queued;
+    }
+
+    private Map<Row, Long> insert(BulkBatch batch, List<Row> rows) {
+        try {
+            return transactionTemplate.execute(status -> insertBatch(batch, rows));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request inserted one of the keys; fall back to row-by-row to find it
+            Map<Row, Long> result = new LinkedHashMap<>();
+            for (Row row : rows) {
+                try {
+                    result.putAll(transactionTemplate.execute(status -> insertBatch(batch, List.of(row))));
+                } catch (DataIntegrityViolationException duplicate) {
+                    result.put(row, null);
+                }
+            }
+            return result;
+        }
+    }
+
+    private Map<Row, Long> insertBatch(BulkBatch batch, List<Row> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_APPLICATION, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Row row = rows.get(i);
+                        ps.setLong(1, batch.userId());
+                        ps.setLong(2, row.platformId());
+                        if (batch.resumeId() != null) {
+                            ps.setLong(3, batch.resumeId());
+                        } else {
+                            ps.setNull(3, Types.BIGINT);
+                        }
+                        ps.setString(4, batch.batchId());
+                        ps.setString(5, row.idempotencyKey());
+                        ps.setString(6, row.job().getJobTitle());
+                        ps.setString(7, row.job().getCompany());
+                        ps.setString(8, row.job().getJobUrl());
+                        ps.setString(9, row.job().getLocation());
+                        ps.setString(10, row.job().getJobDescription());
+                        ps.setString(11, JobApplication.ApplicationStatus.PENDING.name());
+                        ps.setString(12, batch.priority().name());
+                        ps.setBoolean(13, batch.generateCoverLetter());
+                        ps.setTimestamp(14, now);
+                        ps.setTimestamp(15, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keys);
+
+        List<Long> ids = generatedIds(keys);
+        GeneratedKeyHolder logKeys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_LOG, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, ids.get(i));
+                        ps.setString(2, ApplicationLog.LogAction.CREATED.name());
+                        ps.setString(3, CREATED_DETAILS);
+                        ps.setString(4, ApplicationLog.LogLevel.INFO.name());
+                        ps.setTimestamp(5, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.size();
+                    }
+                },
+                logKeys);
+        List<Long> logIds = generatedIds(logKeys);
+
+        Map<Row, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            if (row.idempotencyKey() != null) {
+                idempotencyService.remember(row.idempotencyKey());
+            }
+            result.put(row, ids.get(i));
+            // Delivered by the event bus once this chunk's transaction commits, like the JPA paths
+            eventPublisher.publishEvent(ApplicationEventDTO.builder()
+                    .logId(logIds.get(i))
+                    .applicationId(ids.get(i))
+                    .batchId(batch.batchId())
+                    .status(JobApplication.ApplicationStatus.PENDING.name())
+                    .action(ApplicationLog.LogAction.CREATED.name())
+                    .level(ApplicationLog.LogLevel.INFO.name())
+                    .details(CREATED_DETAILS)
+                    .timestamp(now.toLocalDateTime())
+                    .userId(batch.userId())
+                    .build());
+        }
+        return result;
+    }
+
+    private static List<Long> generatedIds(GeneratedKeyHolder keys) {
+        return keys.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private boolean isExisting(String key, int item, Long platformId, BulkJobItem job, EventSink sink)
+            throws IOException {
+        if (!idempotencyService.mightExist(key)) {
+            return false;
+        }
+        JobApplication existing = jobApplicationRepository.findByIdempotencyKey(key).orElse(null);
+        if (existing == null) {
+            return false;
+        }
+        Map<String, Object> data = event(item, platformId, job, null);
+        data.put("applicationId", existing.getId());
+        data.put("status", existing.getStatus().name());
+        sink.send("duplicate", data);
+        return true;
+    }
+
+    private boolean hasUnseenUpdates(String batchId, LocalDateTime afterTime, long afterId) {
+        // Rows inside the commit-lag window have not been reported yet
+        return !jobApplicationRepository.findBatchUpdates(batchId, afterTime, afterId,
+                LocalDateTime.now().plusYears(1), PageRequest.of(0, 1)).isEmpty();
+    }
+
+    private Map<String, Object> summary(String batchId) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("batchId", batchId);
+        for (Object[] row : jobApplicationRepository.countByStatusInBatch(batchId)) {
+            data.put(((JobApplication.ApplicationStatus) row[0]).name().toLowerCase(), row[1]);
+        }
+        return data;
+    }
+
+    private Map<String, Object> event(int item, Long platformId, BulkJobItem job, String error) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("item", item);
+        if (platformId != null) {
+            data.put("platformId", platformId);
+        }
+        data.put("jobUrl", job.getJobUrl());
+        data.put("jobTitle", job.getJobTitle());
+        if (error != null) {
+            data.put("error", error);
+        }
+        return data;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bulk apply stream interrupted", e);
+        }
+    }
+}
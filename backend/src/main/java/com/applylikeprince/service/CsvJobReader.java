@@ -0,0 +1,121 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.dto.BulkJobItem;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Reads one posting per line so large uploads never sit in memory. The header row names the
+// columns (jobUrl, jobTitle, company, location, jobDescription; case-insensitive, any order).
+// Quoted fields may contain commas and "" escapes but not line breaks.
+public class CsvJobReader implements Iterator<BulkJobItem> {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private BulkJobItem next;
+
+    public CsvJobReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = readLine();
+        if (header == null) {
+            return;
+        }
+        List<String> names = parse(header.replace("\uFEFF", ""));
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(), i);
+        }
+        if (!columns.containsKey("joburl") && !columns.containsKey("jobtitle")) {
+            throw new RuntimeException("CSV header must include a jobUrl or jobTitle column");
+        }
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public BulkJobItem next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        BulkJobItem current = next;
+        advance();
+        return current;
+    }
+
+    private void advance() {
+        String line;
+        do {
+            line = readLine();
+        } while (line != null && line.isBlank());
+        if (line == null) {
+            next = null;
+            return;
+        }
+        List<String> values = parse(line);
+        next = BulkJobItem.builder()
+                .jobUrl(value(values, "joburl"))
+                .jobTitle(value(values, "jobtitle"))
+                .company(value(values, "company"))
+                .location(value(values, "location"))
+                .jobDescription(value(values, "jobdescription"))
+                .build();
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,107 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.repository.JobApplicationRepository.ClaimCandidate;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Deficit round robin across users. Each visit tops a user's deficit up by QUANTUM and serves
+// their best item while it can pay; cheaper high-priority items get more turns per round
+// without starving anyone. Only the dispatcher thread mutates it, so it is not synchronized;
+// activeUsers() is the one read from other threads (the metrics gauge) and goes through an atomic.
+public class FairShareQueue {
+
+    private static final int QUANTUM = 4;
+
+    private static final Comparator<ClaimCandidate> ORDER = Comparator
+            .comparingInt((ClaimCandidate candidate) -> cost(candidate.getPriority()))
+            .thenComparing(ClaimCandidate::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static class UserQueue {
+        final Long userId;
+        final PriorityQueue<ClaimCandidate> items = new PriorityQueue<>(ORDER);
+        int deficit;
+
+        UserQueue(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private final Map<Long, UserQueue> users = new HashMap<>();
+    private final Deque<UserQueue> active = new ArrayDeque<>();
+    private final Set<Long> queuedIds = new HashSet<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    static int cost(JobApplication.Priority priority) {
+        if (priority == null) {
+            return 2;
+        }
+        return switch (priority) {
+            case HIGH -> 1;
+            case NORMAL -> 2;
+            case LOW -> 4;
+        };
+    }
+
+    public void offer(ClaimCandidate candidate) {
+        if (!queuedIds.add(candidate.getId())) {
+            return;
+        }
+        UserQueue queue = users.computeIfAbsent(candidate.getUserId(), id -> {
+            UserQueue created = new UserQueue(id);
+            active.addLast(created);
+            activeCount.incrementAndGet();
+            return created;
+        });
+        queue.items.add(candidate);
+    }
+
+    public int queuedFor(Long userId) {
+        UserQueue queue = users.get(userId);
+        return queue == null ? 0 : queue.items.size();
+    }
+
+    public int activeUsers() {
+        return activeCount.get();
+    }
+
+    public ClaimCandidate poll() {
+        while (!active.isEmpty()) {
+            UserQueue queue = active.peekFirst();
+            ClaimCandidate head = queue.items.peek();
+            if (head == null) {
+                retire(queue);
+                continue;
+            }
+            int cost = cost(head.getPriority());
+            if (queue.deficit >= cost) {
+                queue.deficit -= cost;
+                queue.items.poll();
+                queuedIds.remove(head.getId());
+                if (queue.items.isEmpty()) {
+                    retire(queue);
+                }
+                return head;
+            }
+            // Out of credit for this round: top up and move to the back of the line
+            queue.deficit += QUANTUM;
+            active.addLast(active.pollFirst());
+        }
+        return null;
+    }
+
+    // An idle user restarts with no credit, as DRR prescribes
+    private void retire(UserQueue queue) {
+        active.remove(queue);
+        users.remove(queue.userId);
+        activeCount.decrementAndGet();
+    }
+}
@@ -0,0 +1,155 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.repository.JobApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private static final int SEED_PAGE_SIZE = 10_000;
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.idempotency.expected-keys:1000000}")
+    private long expectedKeys;
+
+    @Value("${app.idempotency.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Bloom filter over stored keys: a miss means "definitely new" and skips the database lookup
+    private volatile AtomicLongArray bits;
+    private volatile int bitCount;
+    private volatile int hashCount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        int bitSize = (int) Math.min(Integer.MAX_VALUE - 64L,
+                Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        AtomicLongArray seeded = new AtomicLongArray((bitSize + 63) / 64);
+        int hashes = Math.max(1, (int) Math.round((double) bitSize / expectedKeys * Math.log(2)));
+
+        long loaded = 0;
+        Slice<String> page = jobApplicationRepository.findIdempotencyKeys(PageRequest.of(0, SEED_PAGE_SIZE));
+        while (true) {
+            for (String key : page) {
+                set(seeded, bitSize, hashes, key);
+                loaded++;
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = jobApplicationRepository.findIdempotencyKeys(page.nextPageable());
+        }
+
+        bitCount = bitSize;
+        hashCount = hashes;
+        bits = seeded;
+        log.info("Idempotency filter seeded with {} keys ({} KB, {} hashes)", loaded, bitSize / 8 / 1024, hashes);
+    }
+
+    // Same user, platform and either client key or normalized job URL map to the same key
+    public String keyFor(Long userId, Long platformId, String clientKey, String jobUrl) {
+        String source;
+        if (clientKey != null && !clientKey.isBlank()) {
+            source = "client|" + userId + "|" + platformId + "|" + clientKey.strip();
+        } else if (jobUrl != null && !jobUrl.isBlank()) {
+            source = "url|" + userId + "|" + platformId + "|" + normalizeUrl(jobUrl);
+        } else {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean mightExist(String key) {
+        AtomicLongArray current = bits;
+        if (current == null) {
+            // Not seeded yet: fall through to the database
+            return true;
+        }
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(key, i, bitCount);
+            if ((current.get(bit >>> 6) & (1L << bit)) == 0) {
+                meterRegistry.counter("applications.idempotency.filter", "result", "miss").increment();
+                return false;
+            }
+        }
+        meterRegistry.counter("applications.idempotency.filter", "result", "maybe").increment();
+        return true;
+    }
+
+    public void remember(String key) {
+        AtomicLongArray current = bits;
+        if (current != null) {
+            set(current, bitCount, hashCount, key);
+        }
+    }
+
+    private static void set(AtomicLongArray target, int bitSize, int hashes, String key) {
+        for (int i = 0; i < hashes; i++) {
+            int bit = index(key, i, bitSize);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long old;
+            do {
+                old = target.get(word);
+            } while ((old & mask) == 0 && !target.compareAndSet(word, old, old | mask));
+        }
+    }
+
+    // Keys are SHA-256 hex, so two 64-bit halves give independent hashes for double hashing
+    private static int index(String key, int i, int bitSize) {
+        long h1 = Long.parseUnsignedLong(key, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(key, 16, 32, 16);
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitSize);
+    }
+
+    static String normalizeUrl(String url) {
+        try {
+            URI uri = URI.create(url.strip());
+            String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+            if (host.startsWith("www.")) {
+                host = host.substring(4);
+            }
+            String path = uri.getPath() != null ? uri.getPath().replaceAll("/+$", "") : "";
+            String query = uri.getQuery() == null ? "" : Arrays.stream(uri.getQuery().split("&"))
+                    .filter(param -> !isTrackingParam(param))
+                    .sorted()
+                    .collect(Collectors.joining("&"));
+            return host + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (IllegalArgumentException e) {
+            return url.strip().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static boolean isTrackingParam(String param) {
+        String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+        return name.isEmpty() || name.startsWith("utm_") || name.equals("ref") || name.equals("refid")
+                || name.equals("trk") || name.equals("trackingid") || name.equals("source") || name.equals("gclid");
+    }
+}
@@ -0,0 +1,205 @@
+package com.applylikeprince.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Pulls resume fields out of extracted text without a model call; fields it cannot fill confidently stay null
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeFieldExtractor {
+
+    public static final List<String> FIELDS = List.of("name", "email", "phone", "skills", "experience", "education");
+
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+    private static final Pattern PHONE = Pattern.compile("(?<![\\w+])\\+?\\(?\\d[\\d\\s().-]{7,18}\\d(?!\\w)");
+    private static final Pattern NAME = Pattern.compile("\\p{Lu}[\\p{L}'.-]*(?:\\s+\\p{Lu}[\\p{L}'.-]*){1,3}");
+    private static final Pattern HEADING = Pattern.compile(
+            "^\\s*(?:(?:professional|work|relevant|technical|core|key)\\s+)?"
+                    + "(experience|employment(?:\\s+history)?|work\\s+history|career\\s+history|"
+                    + "education(?:\\s+and\\s+training)?|academic\\s+background|qualifications|"
+                    + "skills(?:\\s+and\\s+\\w+)?|competencies|technologies|tech\\s+stack|"
+                    + "projects|certifications?|summary|profile|objective|awards|publications|"
+                    + "languages|interests|references|volunteering)\\s*:?\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final int MAX_SECTION_CHARS = 4000;
+    private static final int MIN_SKILLS_WITHOUT_SECTION = 3;
+
+    private enum Section {
+        HEADER, EXPERIENCE, EDUCATION, SKILLS, OTHER
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private List<String> canonicalSkills;
+    private AhoCorasick skillMatcher;
+    private Timer extractTimer;
+
+    @PostConstruct
+    public void init() throws IOException {
+        List<String> patterns = new ArrayList<>();
+        canonicalSkills = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("skills.txt").getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] names = line.split("\\|");
+                for (String name : names) {
+                    patterns.add(name.trim().toLowerCase(Locale.ROOT));
+                    canonicalSkills.add(names[0].trim());
+                }
+            }
+        }
+        skillMatcher = new AhoCorasick(patterns);
+        extractTimer = meterRegistry.timer("resume.extract.local");
+        log.info("Loaded {} skill patterns for local resume parsing", patterns.size());
+    }
+
+    public AIService.ResumeFields extract(String text) {
+        if (text == null || text.isBlank()) {
+            return new AIService.ResumeFields(null, null, null, null, null, null);
+        }
+        return extractTimer.record(() -> {
+            Map<Section, String> sections = segment(text);
+            String skillsSection = sections.get(Section.SKILLS);
+            return new AIService.ResumeFields(
+                    name(sections.getOrDefault(Section.HEADER, "")),
+                    first(EMAIL, text),
+                    phone(text),
+                    skillsSection != null ? skills(skillsSection, 1) : skills(text, MIN_SKILLS_WITHOUT_SECTION),
+                    sections.get(Section.EXPERIENCE),
+                    sections.get(Section.EDUCATION));
+        });
+    }
+
+    public static List<String> missingFields(AIService.ResumeFields fields) {
+        String[] values = {fields.name(), fields.email(), fields.phone(),
+                fields.skills(), fields.experience(), fields.education()};
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                missing.add(FIELDS.get(i));
+            }
+        }
+        return missing;
+    }
+
+    // Locally extracted values win; the model only fills the gaps
+    public static AIService.ResumeFields merge(AIService.ResumeFields local, AIService.ResumeFields fallback) {
+        return new AIService.ResumeFields(
+                local.name() != null ? local.name() : fallback.name(),
+                local.email() != null ? local.email() : fallback.email(),
+                local.phone() != null ? local.phone() : fallback.phone(),
+                local.skills() != null ? local.skills() : fallback.skills(),
+                local.experience() != null ? local.experience() : fallback.experience(),
+                local.education() != null ? local.education() : fallback.education());
+    }
+
+    // Splits on heading lines; text before the first heading is the contact header
+    private Map<Section, String> segment(String text) {
+        Map<Section, StringBuilder> builders = new EnumMap<>(Section.class);
+        Section current = Section.HEADER;
+        for (String line : text.split("\\R")) {
+            Matcher heading = HEADING.matcher(line);
+            if (heading.matches()) {
+                current = sectionFor(heading.group(1).toLowerCase(Locale.ROOT));
+                continue;
+            }
+            if (!line.isBlank()) {
+                builders.computeIfAbsent(current, section -> new StringBuilder()).append(line.strip()).append('\n');
+            }
+        }
+
+        Map<Section, String> sections = new EnumMap<>(Section.class);
+        builders.forEach((section, builder) -> {
+            String body = builder.toString().strip();
+            if (!body.isEmpty()) {
+                sections.put(section, body.length() > MAX_SECTION_CHARS ? body.substring(0, MAX_SECTION_CHARS) : body);
+            }
+        });
+        return sections;
+    }
+
+    private static Section sectionFor(String heading) {
+        if (heading.startsWith("experience") || heading.startsWith("employment")
+                || heading.startsWith("work") || heading.startsWith("career")) {
+            return Section.EXPERIENCE;
+        }
+        if (heading.startsWith("education") || heading.startsWith("academic") || heading.startsWith("qualifications")) {
+            return Section.EDUCATION;
+        }
+        if (heading.startsWith("skills") || heading.startsWith("competencies")
+                || heading.startsWith("technologies") || heading.startsWith("tech")) {
+            return Section.SKILLS;
+        }
+        return Section.OTHER;
+    }
+
+    // The first short line of capitalised words in the header, skipping contact details
+    private static String name(String header) {
+        String[] lines = header.split("\n");
+        for (int i = 0; i < Math.min(lines.length, 5); i++) {
+            String line = lines[i].strip();
+            if (line.length() <= 60 && NAME.matcher(line).matches()) {
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private static String first(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    // Digit count separates phone numbers from date ranges like "2018 - 2021"
+    private static String phone(String text) {
+        Matcher matcher = PHONE.matcher(text);
+        while (matcher.find()) {
+            String candidate = matcher.group().strip();
+            long digits = candidate.chars().filter(Character::isDigit).count();
+            if (digits >= 10 && digits <= 15) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private String skills(String text, int minimum) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        Set<String> found = new LinkedHashSet<>();
+        skillMatcher.search(lower, (pattern, start, end) -> {
+            if (isBoundary(lower, start - 1) && isBoundary(lower, end)) {
+                found.add(canonicalSkills.get(pattern));
+            }
+        });
+        return found.size() >= minimum ? String.join(", ", found) : null;
+    }
+
+    // Keeps "java" from matching inside "javascript" while still allowing "c++" or ".net"
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
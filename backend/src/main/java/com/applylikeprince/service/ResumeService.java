@@ -5,6 +5,7 @@ import com.applylikeprince.dto.ResumeDTO;
 import com.applylikeprince.entity.Resume;
 import com.applylikeprince.entity.User;
 import com.applylikeprince.repository.ResumeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
@@ -36,6 +37,9 @@ public class ResumeService {
     private final UserService userService;
     private final FileStorageConfig fileStorageConfig;
     private final AIService aiService;
+    private final AIResultCache aiResultCache;
+    private final ResumeFieldExtractor resumeFieldExtractor;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public ResumeDTO uploadResume(MultipartFile file) throws IOException {
@@ -129,11 +133,16 @@ public class ResumeService {
     @Transactional
     public void parseResumeWithAI(Resume resume) {
         try {
-            String parsedData = aiService.parseResume(resume.getRawContent());
-            resume.setParsedContent(parsedData);
+            // Deterministic pass first; the model is only asked for what it could not fill
+            AIService.ResumeFields parsedInfo = resumeFieldExtractor.extract(resume.getRawContent());
+            List<String> missing = ResumeFieldExtractor.missingFields(parsedInfo);
+            if (!missing.isEmpty()) {
+                log.debug("Local resume parse missing {}, asking the model", missing);
+                String parsedData = aiService.parseResume(resume.getRawContent(), missing);
+                parsedInfo = ResumeFieldExtractor.merge(parsedInfo, aiService.extractResumeFields(parsedData));
+            }
+            resume.setParsedContent(objectMapper.writeValueAsString(parsedInfo));
 
-            // Extract individual fields from AI response
-            var parsedInfo = aiService.extractResumeFields(parsedData);
             resume.setExtractedName(parsedInfo.name());
             resume.setExtractedEmail(parsedInfo.email());
             resume.setExtractedPhone(parsedInfo.phone());
@@ -200,6 +209,8 @@ public class ResumeService {
         } catch (IOException e) {
             log.error("Failed to delete resume file: {}", e.getMessage());
         }
+        // Cached parse results carry the same personal details as the file
+        aiResultCache.purge(resume.getRawContent());
 
         resume.setIsActive(false);
         resumeRepository.save(resume);
@@ -0,0 +1,48 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.repository.JobApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RetryScheduler {
+
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ApplicationStateService applicationStateService;
+    private final AutomationProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.automation.retry.interval:PT30S}")
+    public void requeueDueRetries() {
+        AutomationProperties.Retry retry = properties.getRetry();
+        int total = 0;
+
+        for (int batch = 0; batch < retry.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = jobApplicationRepository.findRetryCandidateIds(
+                    JobApplication.ApplicationStatus.FAILED,
+                    LocalDateTime.now(),
+                    PageRequest.of(0, retry.getBatchSize()));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            total += applicationStateService.requeueForRetry(ids);
+            if (ids.size() < retry.getBatchSize()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Re-queued {} failed applications for retry", total);
+        }
+    }
+}
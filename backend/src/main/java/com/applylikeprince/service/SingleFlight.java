@@ -0,0 +1,112 @@
+package com.applylikeprince.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Collapses concurrent calls with the same key onto one computation and keeps non-null results for a TTL
+class SingleFlight {
+
+    private final String name;
+    private final Duration ttl;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Cached> cache;
+
+    SingleFlight(String name, Duration ttl, int maxEntries, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.ttl = ttl;
+        this.meterRegistry = meterRegistry;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    String get(String key, Supplier<String> compute) {
+        String cached = cached(key);
+        if (cached != null) {
+            count("hit");
+            return cached;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            count("joined");
+            return await(leader);
+        }
+
+        try {
+            // The previous leader may have finished between the cache check and claiming the key
+            String value = cached(key);
+            if (value != null) {
+                count("hit");
+            } else {
+                count("miss");
+                value = compute.get();
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // For results produced outside get(), e.g. a streamed generation
+    void put(String key, String value) {
+        synchronized (cache) {
+            cache.put(key, new Cached(value, System.nanoTime() + ttl.toNanos()));
+        }
+    }
+
+    String peek(String key) {
+        return cached(key);
+    }
+
+    private String cached(String key) {
+        synchronized (cache) {
+            Cached entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos() - System.nanoTime() < 0) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    private static String await(CompletableFuture<String> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("ai.singleflight", "name", name, "result", result).increment();
+    }
+
+    private record Cached(String value, long expiresAtNanos) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.applylikeprince.service;
+
+import com.applylikeprince.automation.FailureArtifacts;
+import com.applylikeprince.automation.FailureClassifier;
+import com.applylikeprince.automation.PhaseMetrics;
+import com.applylikeprince.config.AutomationProperties;
+import com.applylikeprince.entity.JobApplication;
+import com.applylikeprince.entity.Platform;
+import com.applylikeprince.entity.User;
+import com.applylikeprince.repository.JobApplicationRepository;
+import com.applylikeprince.repository.PlatformRepository;
+import com.applylikeprince.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// A single-connection pool makes any connection held across the automation call visible
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:application-service-test;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ApplicationService.class, ApplicationStateService.class, FailureClassifier.class, AutomationProperties.class})
+class ApplicationServiceTest {
+
+    private static final String WORKER = "worker-1";
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private AutomationService automationService;
+
+    @MockBean
+    private AIService aiService;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private ResumeService resumeService;
+
+    @MockBean
+    private PhaseMetrics phaseMetrics;
+
+    @MockBean
+    private FailureArtifacts failureArtifacts;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @MockBean
+    private AdmissionControl admissionControl;
+
+    @MockBean
+    private ApplicationEventBus applicationEventBus;
+
+    @Test
+    void databaseConnectionIsNotHeldWhileAutomationRuns() throws Exception {
+        Long id = claimedApplication();
+
+        CountDownLatch automationStarted = new CountDownLatch(1);
+        CountDownLatch releaseAutomation = new CountDownLatch(1);
+        when(automationService.submitApplication(any(), any())).thenAnswer(invocation -> {
+            automationStarted.countDown();
+            releaseAutomation.await(10, TimeUnit.SECONDS);
+            return "submitted data";
+        });
+
+        Thread worker = Thread.ofVirtual().start(() -> applicationService.processQueuedApplication(id, WORKER));
+        try {
+            assertThat(automationStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            assertThat(hikari.getHikariPoolMXBean().getActiveConnections()).isZero();
+            // With one connection in the pool this would time out if the worker were holding it
+            assertThat(jobApplicationRepository.findById(id))
+                    .get()
+                    .extracting(JobApplication::getStatus)
+                    .isEqualTo(JobApplication.ApplicationStatus.IN_PROGRESS);
+        } finally {
+            releaseAutomation.countDown();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        JobApplication application = jobApplicationRepository.findById(id).orElseThrow();
+        assertThat(application.getStatus()).isEqualTo(JobApplication.ApplicationStatus.SUBMITTED);
+        assertThat(application.getSubmittedData()).isEqualTo("submitted data");
+    }
+
+    private Long claimedApplication() {
+        User user = userRepository.save(User.builder()
+                .email("candidate@example.com")
+                .password("secret")
+                .fullName("Test Candidate")
+                .build());
+        Platform platform = platformRepository.save(Platform.builder()
+                .name("generic")
+                .displayName("Generic")
+                .baseUrl("https://jobs.example.com")
+                .build());
+        return jobApplicationRepository.save(JobApplication.builder()
+                .user(user)
+                .platform(platform)
+                .jobTitle("Engineer")
+                .company("Example")
+                .jobUrl("https://jobs.example.com/1")
+                .status(JobApplication.ApplicationStatus.IN_PROGRESS)
+                .leaseOwner(WORKER)
+                .leaseExpiresAt(LocalDateTime.now().plusMinutes(5))
+                .attemptCount(0)
+                .build()).getId();
+    }
+}
@@ -27,6 +27,12 @@ const ApplicationsPage = () => {
         fetchApplications();
     }, [statusFilter]);
 
+    // Status changes arrive over the event stream instead of re-fetching the list
+    useEffect(() => applicationService.subscribe((event) => {
+        setApplications((current) => current.map((app) =>
+            app.id === event.applicationId ? { ...app, status: event.status } : app));
+    }), []);
+
     const fetchApplications = async () => {
         setIsLoading(true);
         try {
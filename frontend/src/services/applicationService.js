@@ -1,4 +1,50 @@
 import api from './api';
+import useAuthStore from '@store/authStore';
+
+const API_BASE_URL = import.meta.env.VITE_API_URL || '/api';
+
+// Reads a streamed response as it arrives, handing each complete frame to onFrame. Returns a cancel function.
+const openStream = (method, path, { headers = {}, body, separator }, onFrame, onError) => {
+    const controller = new AbortController();
+    const { accessToken } = useAuthStore.getState();
+    fetch(`${API_BASE_URL}${path}`, {
+        method,
+        headers: { ...headers, Authorization: `Bearer ${accessToken}` },
+        body,
+        signal: controller.signal,
+    }).then(async (response) => {
+        // Rejections come back as a JSON error body, not a stream
+        if (!response.ok) {
+            const error = await response.json().catch(() => ({}));
+            onError?.(error.message || `Request failed with status ${response.status}`);
+            return;
+        }
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+            const { value, done } = await reader.read();
+            if (done) break;
+            buffer += value;
+            const frames = buffer.split(separator);
+            buffer = frames.pop();
+            frames.filter(Boolean).forEach(onFrame);
+        }
+        if (buffer.trim()) onFrame(buffer);
+    }).catch((error) => {
+        if (error.name === 'AbortError') return;
+        console.error(`Stream ${path} failed:`, error);
+        onError?.(error.message);
+    });
+    return () => controller.abort();
+};
+
+// EventSource cannot send the bearer token (or POST), so SSE responses are read through fetch
+const openEventStream = (method, path, onEvent, onError) =>
+    openStream(method, path, { headers: { Accept: 'text/event-stream' }, separator: '\n\n' }, (frame) => {
+        const event = frame.match(/^event:(.*)$/m)?.[1]?.trim();
+        const data = frame.match(/^data:(.*)$/m)?.[1];
+        if (event && data) onEvent(event, JSON.parse(data));
+    }, onError);
 
 const applicationService = {
     getAll: async (params = {}) => {
@@ -21,14 +67,31 @@ const applicationService = {
         return response.data;
     },
 
-    bulkApply: async (platforms, resumeId) => {
-        const response = await api.post('/applications/bulk-apply', {
-            platformIds: platforms,
-            resumeId,
-        });
-        return response.data;
+    // jobs: [{ jobUrl, jobTitle, company, location }]. Progress is NDJSON, read line by line as it arrives:
+    // onEvent gets each item's result ({ type, data }). Returns a cancel function.
+    bulkApply: (jobs, platforms, resumeId, { onEvent, onError }) => {
+        const params = new URLSearchParams({ platformIds: platforms.join(',') });
+        if (resumeId != null) params.set('resumeId', resumeId);
+        return openStream('POST', `/applications/bulk-apply?${params}`, {
+            headers: { Accept: 'application/x-ndjson', 'Content-Type': 'application/json' },
+            body: JSON.stringify(jobs),
+            separator: '\n',
+        }, (line) => onEvent(JSON.parse(line)), onError);
     },
 
+    // Live status/log events for the current user. Returns a function that closes the stream.
+    subscribe: (onEvent) => openEventStream('GET', '/applications/events', (event, data) => {
+        if (event === 'application') onEvent(data);
+    }),
+
+    // Streams a new cover letter: onToken gets each chunk, onDone the saved letter. Returns a cancel function.
+    streamCoverLetter: (id, { onToken, onDone, onError }) =>
+        openEventStream('POST', `/applications/${id}/cover-letter/stream`, (event, data) => {
+            if (event === 'token') onToken?.(data.text);
+            if (event === 'done') onDone?.(data.coverLetter);
+            if (event === 'error') onError?.(data.message);
+        }, onError),
+
     updateStatus: async (id, status) => {
         const response = await api.put(`/applications/${id}/status`, { status });
         return response.data;